@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드(기본) vs 가상 스레드(virtual 프로필) 처리량 비교
+# 사전 준비: docker compose up -d, .env 로드, hey 설치 (https://github.com/rakyll/hey)
+# 사용법: scripts/bench-virtual-threads.sh <공유 링크> [동시 접속 수] [측정 시간]
+set -euo pipefail
+
+SHARE_LINK=${1:?공유 링크를 입력하세요}
+CONCURRENCY=${2:-500}
+DURATION=${3:-30s}
+PORT=${SERVER_PORT:-8080}
+URL="http://localhost:${PORT}/api/events/share/${SHARE_LINK}"
+
+cd "$(dirname "$0")/.."
+./gradlew -q bootJar -Pjava21
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+
+run() {
+  local label=$1
+  shift
+  java "$@" -jar "$JAR" > "build/bench-${label}.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  until curl -sf -o /dev/null "$URL"; do sleep 1; done
+
+  echo "== ${label} (동시 ${CONCURRENCY}, ${DURATION}) =="
+  hey -z 10s -c "$CONCURRENCY" "$URL" > /dev/null  # 워밍업
+  hey -z "$DURATION" -c "$CONCURRENCY" "$URL" | sed -n '/Summary/,/Latency distribution/p;/Latency distribution/,/Details/p'
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+# 요청 제한에 걸리지 않도록 측정 중에는 끈다
+run platform -Drate-limit.enabled=false
+run virtual -Drate-limit.enabled=false -Dspring.profiles.active=virtual
@@ -0,0 +1,43 @@
+package com.invitation.backend.benchmark;
+
+import com.invitation.backend.config.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// JWT 발급/검증 비용 (verify는 검증 결과 캐시 적중 경로)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 10_000L);
+        token = jwtTokenProvider.generateToken("benchmark-user", 1L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken("benchmark-user", 1L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtTokenProvider.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public Object verifyCached() {
+        return jwtTokenProvider.verify(token);
+    }
+}
@@ -0,0 +1,100 @@
+package com.invitation.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.invitation.backend.domain.AttendanceType;
+import com.invitation.backend.domain.Event;
+import com.invitation.backend.domain.RSVP;
+import com.invitation.backend.dto.EventResponse;
+import com.invitation.backend.dto.RSVPResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// Entity -> DTO 변환과 JSON 직렬화 비용
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Event event;
+    private RSVP rsvp;
+    private EventResponse eventResponse;
+    private RSVPResponse rsvpResponse;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션과 같은 날짜 직렬화 설정
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime now = LocalDateTime.now();
+        event = Event.builder()
+                .id(1L)
+                .title("결혼식에 초대합니다")
+                .eventDate(LocalDate.now().plusMonths(1))
+                .eventTime(LocalTime.of(12, 30))
+                .location("서울 강남구 웨딩홀")
+                .locationLat(37.4979)
+                .locationLng(127.0276)
+                .templateType("classic")
+                .customContent("{\"greeting\":\"두 사람이 사랑으로 하나가 되는 날\",\"photos\":[\"a.jpg\",\"b.jpg\"]}")
+                .shareLink("Ab3dE5gH")
+                .viewCount(1234L)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        rsvp = RSVP.builder()
+                .id(1L)
+                .event(event)
+                .guestName("홍길동")
+                .attendance(AttendanceType.ATTENDING)
+                .companionCount(2)
+                .phone("010-1234-5678")
+                .email("guest@example.com")
+                .message("축하드립니다!")
+                .ipAddress("203.0.113.10")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        eventResponse = EventResponse.from(event);
+        rsvpResponse = RSVPResponse.from(rsvp);
+    }
+
+    @Benchmark
+    public EventResponse eventFrom() {
+        return EventResponse.from(event, 7L);
+    }
+
+    @Benchmark
+    public byte[] eventFromAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(EventResponse.from(event, 7L));
+    }
+
+    @Benchmark
+    public byte[] eventSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(eventResponse);
+    }
+
+    @Benchmark
+    public RSVPResponse rsvpFrom() {
+        return RSVPResponse.from(rsvp);
+    }
+
+    @Benchmark
+    public byte[] rsvpFromAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(RSVPResponse.from(rsvp));
+    }
+
+    @Benchmark
+    public byte[] rsvpSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(rsvpResponse);
+    }
+}
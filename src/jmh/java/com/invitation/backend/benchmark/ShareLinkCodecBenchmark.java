@@ -0,0 +1,25 @@
+package com.invitation.backend.benchmark;
+
+import com.invitation.backend.service.ShareLinkCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 공유 링크 생성 비용 (블록 할당을 제외한 일련번호 -> 링크 인코딩)
+@State(Scope.Thread)
+public class ShareLinkCodecBenchmark {
+
+    private ShareLinkCodec codec;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        codec = new ShareLinkCodec("benchmark-share-link-key");
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(sequence++ & (ShareLinkCodec.MAX_SEQUENCE - 1));
+    }
+}
@@ -0,0 +1,168 @@
+package com.invitation.backend.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 요청당 접근 로그 한 건 (경로 패턴, 상태, 지연 시간, SQL 수)
+// 성공 요청은 시작 시점에 샘플링 여부를 정하고(head-based), 오류와 느린 요청은 모두 기록한다.
+// 요청 제한(429)만 예외로 access-log.sample-rate-limited 비율로 기록한다 (1.0이면 모두 기록).
+// 요청 제한/인증 실패까지 담기 위해 보안 필터 체인보다 먼저 실행한다.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final AccessLogWriter accessLogWriter;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final double rateLimitedSampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(
+            AccessLogWriter accessLogWriter,
+            @Value("${access-log.enabled:true}") boolean enabled,
+            @Value("${access-log.sample-rate:0.01}") double sampleRate,
+            @Value("${access-log.sample-rate-limited:0.1}") double rateLimitedSampleRate,
+            @Value("${access-log.slow-threshold-ms:1000}") long slowThresholdMillis
+    ) {
+        this.accessLogWriter = accessLogWriter;
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.rateLimitedSampleRate = rateLimitedSampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        if (!enabled) {
+            // 접근 로그를 쓰지 않아도 컨트롤러 지표용 SQL 수 집계는 요청이 끝나면 정리한다
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                SqlStatementCounter.clear();
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        SqlStatementCounter.reset();
+
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // 스트리밍 응답은 비동기 처리가 끝난 뒤 최종 상태로 기록
+                int sqlCount = SqlStatementCounter.get();
+                request.getAsyncContext().addListener(new CompletionListener(request, response, start, sqlCount, sampled));
+            } else {
+                record(request, response, start, SqlStatementCounter.get(), failure, sampled);
+            }
+            // 요청 스레드(가상 스레드 포함)에 집계 값을 남기지 않는다
+            SqlStatementCounter.clear();
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long start,
+                        int sqlCount, Throwable failure, boolean sampled) {
+        long elapsed = System.nanoTime() - start;
+        // 예외가 컨테이너까지 올라온 경우 응답 상태는 아직 200일 수 있다
+        int status = failure != null ? HttpStatus.INTERNAL_SERVER_ERROR.value() : response.getStatus();
+
+        if (!sampled && !isError(status) && failure == null && elapsed < slowThresholdNanos) {
+            return;
+        }
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value() && !sampledRateLimited() && elapsed < slowThresholdNanos) {
+            return;
+        }
+
+        accessLogWriter.offer(new AccessLogWriter.Entry(
+                Instant.now(),
+                request.getMethod(),
+                route(request),
+                status,
+                TimeUnit.NANOSECONDS.toMicros(elapsed),
+                sqlCount,
+                failure == null ? null : failure.getClass().getName(),
+                sampled
+        ));
+    }
+
+    private static boolean isError(int status) {
+        return status >= 400;
+    }
+
+    // 요청 제한(429)은 과부하 상황에서 대량으로 발생해 버퍼를 채우므로 따로 정한 비율로 기록한다
+    private boolean sampledRateLimited() {
+        return rateLimitedSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rateLimitedSampleRate;
+    }
+
+    // 경로 변수 값(공유 링크, ID)이 아닌 매핑 패턴으로 기록
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+    }
+
+    private class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long start;
+        private final int sqlCount;
+        private final boolean sampled;
+        private Throwable failure;
+
+        private CompletionListener(HttpServletRequest request, HttpServletResponse response,
+                                   long start, int sqlCount, boolean sampled) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+            this.sqlCount = sqlCount;
+            this.sampled = sampled;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response, start, sqlCount, failure, sampled);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failure = event.getThrowable();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failure = event.getThrowable();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
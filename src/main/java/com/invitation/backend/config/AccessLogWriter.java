@@ -0,0 +1,186 @@
+package com.invitation.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+// 접근 로그 비동기 기록
+// 요청 스레드는 고정 크기 링 버퍼에 CAS로 넣기만 하고(락 없음, 가득 차면 버리고 집계),
+// 단일 writer 스레드가 꺼내 JSON 한 줄로 ACCESS_LOG 로거에 쓴다.
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int mask;
+    private final AtomicReferenceArray<Entry> slots;
+    private final AtomicLongArray sequences;   // 슬롯별 차례 (생산자/소비자 순서 조정)
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;                 // writer 스레드만 갱신
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AccessLogWriter(
+            MeterRegistry meterRegistry,
+            @Value("${access-log.buffer-size:8192}") int bufferSize
+    ) {
+        if (Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("access-log.buffer-size는 2의 거듭제곱이어야 합니다");
+        }
+        this.mask = bufferSize - 1;
+        this.slots = new AtomicReferenceArray<>(bufferSize);
+        this.sequences = new AtomicLongArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            sequences.set(i, i);
+        }
+
+        this.writtenCounter = meterRegistry.counter("access_log.written");
+        this.droppedCounter = meterRegistry.counter("access_log.dropped");
+        Gauge.builder("access_log.buffer.depth", this, AccessLogWriter::depth)
+                .description("기록 대기 중인 접근 로그 수")
+                .register(meterRegistry);
+    }
+
+    // 버퍼에 추가 (가득 차면 요청 스레드를 막지 않고 버린다)
+    public boolean offer(Entry entry) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, entry);
+                    sequences.set(index, position + 1);  // 소비자에게 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                droppedCounter.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    public long depth() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "access-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 종료 시 남은 로그까지 기록
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void drainLoop() {
+        while (true) {
+            Entry entry = poll();
+            if (entry != null) {
+                write(entry);
+                continue;
+            }
+            if (!running) {
+                break;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    private Entry poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        Entry entry = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, head + mask + 1);  // 다음 바퀴의 생산자에게 반환
+        head++;
+        return entry;
+    }
+
+    private void write(Entry entry) {
+        try {
+            ACCESS_LOG.info(entry.toJson());
+            writtenCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("접근 로그 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    // 요청 한 건의 접근 로그
+    @AllArgsConstructor
+    public static class Entry {
+        private final Instant timestamp;
+        private final String method;
+        private final String route;       // 매핑된 URL 패턴 (경로 변수 값 제외)
+        private final int status;
+        private final long latencyMicros;
+        private final int sqlCount;
+        private final String exception;   // 처리되지 않은 예외 클래스 (없으면 null)
+        private final boolean sampled;    // false면 오류/지연으로 인해 샘플링과 무관하게 기록
+
+        String toJson() {
+            StringBuilder json = new StringBuilder(192)
+                    .append("{\"ts\":\"").append(timestamp)
+                    .append("\",\"method\":\"").append(method)
+                    .append("\",\"route\":\"");
+            appendEscaped(json, route);
+            json.append("\",\"status\":").append(status)
+                    .append(",\"latencyMs\":").append(latencyMicros / 1000).append('.')
+                    .append(String.format("%03d", latencyMicros % 1000))
+                    .append(",\"sql\":").append(sqlCount)
+                    .append(",\"sampled\":").append(sampled);
+            if (exception != null) {
+                json.append(",\"exception\":\"");
+                appendEscaped(json, exception);
+                json.append('"');
+            }
+            return json.append('}').toString();
+        }
+
+        private static void appendEscaped(StringBuilder json, String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    json.append('\\').append(c);
+                } else if (c < 0x20) {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+        }
+    }
+}
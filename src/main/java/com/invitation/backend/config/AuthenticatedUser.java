@@ -0,0 +1,23 @@
+package com.invitation.backend.config;
+
+import lombok.Getter;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.ArrayList;
+
+// 인증된 사용자 정보 (사용자 ID 포함)
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final Long userId;
+
+    public AuthenticatedUser(Long userId, String username, String password) {
+        super(username, password, new ArrayList<>());  // 권한 목록 (나중에 추가 가능)
+        this.userId = userId;
+    }
+
+    // 토큰 정보만으로 생성 (DB 조회 없음)
+    public static AuthenticatedUser fromToken(VerifiedToken token) {
+        return new AuthenticatedUser(token.getUserId(), token.getUsername(), "");
+    }
+}
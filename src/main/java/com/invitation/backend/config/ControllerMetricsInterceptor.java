@@ -0,0 +1,100 @@
+package com.invitation.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 컨트롤러 메서드별 처리 시간과 요청당 SQL 수 기록
+@Component
+@RequiredArgsConstructor
+public class ControllerMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ControllerMetricsInterceptor.class.getName() + ".start";
+    private static final String SQL_START_ATTRIBUTE = ControllerMetricsInterceptor.class.getName() + ".sqlStart";
+    private static final int MAX_STATUS = 600;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, HandlerMeters> handlerMeters = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            // 요청 전체 수는 AccessLogFilter가 집계하므로 초기화하지 않고 컨트롤러 구간만 뺀다
+            request.setAttribute(SQL_START_ATTRIBUTE, SqlStatementCounter.get());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+
+        int sqlStart = request.getAttribute(SQL_START_ATTRIBUTE) instanceof Integer count ? count : 0;
+        HandlerMeters meters = handlerMeters.get(handlerMethod.getMethod());
+        if (meters == null) {
+            meters = handlerMeters.computeIfAbsent(handlerMethod.getMethod(), method -> new HandlerMeters(handlerMethod));
+        }
+
+        meters.timer(response.getStatus(), ex).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        meters.queries.record(SqlStatementCounter.get() - sqlStart);
+    }
+
+    // 컨트롤러 메서드별 지표 (요청마다 태그를 만들어 레지스트리에서 찾지 않도록 보관)
+    private class HandlerMeters {
+
+        private final String controller;
+        private final String method;
+        private final DistributionSummary queries;
+        private final AtomicReferenceArray<Timer> timersByStatus = new AtomicReferenceArray<>(MAX_STATUS);  // 예외 없는 요청
+        private final Map<String, Timer> timersByException = new ConcurrentHashMap<>();
+
+        private HandlerMeters(HandlerMethod handlerMethod) {
+            this.controller = handlerMethod.getBeanType().getSimpleName();
+            this.method = handlerMethod.getMethod().getName();
+            this.queries = DistributionSummary.builder("api.controller.queries")
+                    .description("요청당 Hibernate SQL 실행 수")
+                    .tag("controller", controller)
+                    .tag("method", method)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(int status, Exception ex) {
+            if (ex == null && status >= 0 && status < MAX_STATUS) {
+                Timer timer = timersByStatus.get(status);
+                if (timer == null) {
+                    timer = register(status, "none");  // 같은 태그면 레지스트리가 같은 Timer를 돌려준다
+                    timersByStatus.set(status, timer);
+                }
+                return timer;
+            }
+            String exception = ex == null ? "none" : ex.getClass().getSimpleName();
+            return timersByException.computeIfAbsent(status + "|" + exception, key -> register(status, exception));
+        }
+
+        private Timer register(int status, String exception) {
+            return Timer.builder("api.controller")
+                    .description("컨트롤러 메서드 처리 시간")
+                    .tag("controller", controller)
+                    .tag("method", method)
+                    .tag("status", String.valueOf(status))
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -4,26 +4,39 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final PrincipalSource principalSource;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            UserDetailsService userDetailsService,
+            @Value("${security.principal.source:CACHE}") PrincipalSource principalSource
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.principalSource = principalSource;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -36,13 +49,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Request Header에서 JWT 토큰 추출
             String token = getJwtFromRequest(request);
 
+            // 2. 토큰 검증 (한 번만 파싱)
+            Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+
             if (!StringUtils.hasText(token)) {
                 log.debug("JWT 토큰이 없습니다. URI: {}", requestURI);
-            } else if (jwtTokenProvider.validateToken(token)) {
-                // 2. 토큰 유효성 검증 성공
-                String username = jwtTokenProvider.getUsernameFromToken(token);
+            } else if (verified.isPresent()) {
+                // 3. 토큰 유효성 검증 성공
+                String username = verified.get().getUsername();
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = loadPrincipal(verified.get());
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -54,7 +70,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.info("사용자 인증 성공 - username: {}, URI: {}", username, requestURI);
+                log.debug("사용자 인증 성공 - username: {}, URI: {}", username, requestURI);
             } else {
                 log.warn("유효하지 않은 JWT 토큰입니다. URI: {}", requestURI);
             }
@@ -65,6 +81,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 인증 주체 생성 (TOKEN 모드는 DB 조회 없이 토큰 클레임으로 생성)
+    private UserDetails loadPrincipal(VerifiedToken token) {
+        if (principalSource == PrincipalSource.TOKEN && token.getUserId() != null) {
+            return AuthenticatedUser.fromToken(token);
+        }
+        return userDetailsService.loadUserByUsername(token.getUsername());
+    }
+
+    // 인증이 필요 없는 경로는 토큰 처리 생략
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (String pattern : SecurityConfig.PUBLIC_PATHS) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // Request Header에서 토큰 정보 추출
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
@@ -1,62 +1,138 @@
 package com.invitation.backend.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+
     private final SecretKey secretKey;
     private final long jwtExpiration;
 
+    // 재사용 가능한 파서 (스레드 안전)
+    private final JwtParser jwtParser;
+
+    // 최근 검증된 토큰 캐시 (토큰 다이제스트 -> 검증 결과, 토큰 만료 시각까지만 유지)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
     public JwtTokenProvider(
             @Value("${JWT_SECRET}") String secret,
-            @Value("${JWT_EXPIRATION}") long jwtExpiration
+            @Value("${JWT_EXPIRATION}") long jwtExpiration,
+            @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpiration = jwtExpiration;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     // JWT 토큰 생성
-    public String generateToken(String username) {
+    public String generateToken(String username, Long userId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
                 .subject(username)
+                .claim(USER_ID_CLAIM, userId)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
                 .compact();
     }
 
+    // 토큰 검증 후 정보 반환 (요청당 한 번만 파싱, 최근 검증된 토큰은 서명 검증 생략)
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String key = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !cached.isExpired()) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parseClaims(token);
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+
+            VerifiedToken verified = new VerifiedToken(
+                    claims.get(USER_ID_CLAIM, Long.class),
+                    claims.getSubject(),
+                    claims.getExpiration().toInstant()
+            );
+            verifiedTokens.put(key, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     // 토큰에서 username 추출
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    // 캐시 키 (원본 토큰을 메모리에 보관하지 않기 위해 다이제스트 사용)
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.invitation.backend.config;
+
+// 인증 주체(Principal) 생성 방식
+public enum PrincipalSource {
+    DATABASE,   // 요청마다 users 조회
+    CACHE,      // TTL 캐시 후 미스 시에만 users 조회
+    TOKEN       // 토큰 클레임만으로 생성 (DB 조회 없음)
+}
@@ -0,0 +1,61 @@
+package com.invitation.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invitation.backend.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 공개 경로 요청 제한 필터 (JWT 인증 전에 실행)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        // 클라이언트가 바꿀 수 있는 X-Forwarded-For 대신 접속 주소 사용
+        // (신뢰하는 프록시 뒤에서는 server.forward-headers-strategy가 실제 주소로 바꿔 둔다)
+        String clientIp = request.getRemoteAddr();
+        long waitNanos = rateLimiter.acquire(request.getMethod(), request.getServletPath(), clientIp);
+
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            log.debug("요청 제한 초과 - IP: {}, URI: {}", clientIp, request.getRequestURI());
+
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .timestamp(LocalDateTime.now())
+                    .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                    .error("Too Many Requests")
+                    .message("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")
+                    .build();
+
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,32 @@
+package com.invitation.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 공개 경로 요청 제한 설정 (경로별 초당 허용량과 순간 허용량)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long idleSeconds = 300;      // 이 시간 동안 요청이 없는 클라이언트 버킷은 제거
+    private int maxClients = 100_000;    // 버킷 수 상한 (초과 시 자주 쓰이지 않는 버킷부터 제거)
+    private List<Route> routes = new ArrayList<>();  // 위에서부터 처음 일치하는 경로 적용
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+        private String pattern;
+        private List<String> methods = new ArrayList<>();  // 비어 있으면 모든 메서드
+        private double permitsPerSecond;
+        private int burst = 1;
+    }
+}
@@ -0,0 +1,94 @@
+package com.invitation.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 클라이언트별 요청 제한 (GCRA 방식 토큰 버킷)
+// 버킷 하나는 "다음 요청이 허용되는 이론적 시각" 하나만 갖는 AtomicLong이라 CAS 한 번으로 판정하고 락을 쓰지 않는다.
+@Component
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final List<CompiledRoute> routes;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // (경로, 클라이언트 IP)별 버킷
+    // 상한을 넘으면 자주 쓰이지 않는 버킷부터 제거한다 (제거된 클라이언트는 가득 찬 버킷으로 다시 시작)
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.routes = properties.getRoutes().stream()
+                .map(CompiledRoute::new)
+                .toList();
+        // idle 시간이 지난 버킷은 이론적 시각이 이미 과거라 지워도 판정이 같다
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(Duration.ofSeconds(properties.getIdleSeconds()))
+                .build();
+    }
+
+    // 요청 판정 (허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 나노초)
+    public long acquire(String method, String path, String clientIp) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        CompiledRoute route = match(method, path);
+        if (route == null) {
+            return 0;
+        }
+
+        AtomicLong bucket = buckets.get(route.name + '|' + clientIp, key -> new AtomicLong(Long.MIN_VALUE));
+
+        long now = System.nanoTime();
+        while (true) {
+            long tat = bucket.get();
+            long base = tat == Long.MIN_VALUE || tat - now < 0 ? now : tat;
+            long next = base + route.interval;
+            long wait = next - now - route.tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private CompiledRoute match(String method, String path) {
+        for (CompiledRoute route : routes) {
+            if ((route.methods.isEmpty() || route.methods.contains(method))
+                    && pathMatcher.match(route.pattern, path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static class CompiledRoute {
+
+        private final String name;
+        private final String pattern;
+        private final List<String> methods;
+        private final long interval;   // 토큰 하나가 채워지는 간격 (나노초)
+        private final long tolerance;  // 순간 허용량만큼 앞당겨 쓸 수 있는 시간
+
+        CompiledRoute(RateLimitProperties.Route route) {
+            if (route.getPermitsPerSecond() <= 0 || route.getBurst() < 1) {
+                throw new IllegalArgumentException("잘못된 요청 제한 설정입니다: " + route.getName());
+            }
+            this.name = route.getName();
+            this.pattern = route.getPattern();
+            this.methods = route.getMethods().stream().map(String::toUpperCase).toList();
+            this.interval = (long) (TimeUnit.SECONDS.toNanos(1) / route.getPermitsPerSecond());
+            this.tolerance = interval * route.getBurst();
+        }
+    }
+}
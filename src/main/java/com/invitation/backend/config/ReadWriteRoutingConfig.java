@@ -0,0 +1,97 @@
+package com.invitation.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 읽기/쓰기 분리 (datasource.routing.enabled=true)
+// 주 DB 풀(spring.datasource.*)과 복제본 풀(datasource.routing.replicas)을 만들고
+// @Transactional(readOnly = true) 트랜잭션만 복제본으로 보낸다.
+// 복제 지연이 있으므로 다른 요청에서는 방금 쓴 값이 잠시 보이지 않을 수 있다.
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReadWriteRoutingConfig implements DisposableBean {
+
+    private final ReadWriteRoutingProperties properties;
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, Environment environment,
+                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        // 자동 구성과 같이 spring.datasource.hikari.* 적용
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReadWriteRoutingProperties.Replica> replicaProperties = properties.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, replica(name, replicaProperties.get(i), dataSourceProperties, meterRegistry));
+        }
+
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replicas, properties.getSelection(),
+                properties.getHealthCheckTimeoutSeconds(), meterRegistry);
+        log.info("읽기/쓰기 분리 적용 - 복제본: {}개, 선택 방식: {}", replicas.size(), properties.getSelection());
+
+        // 트랜잭션의 읽기 전용 여부가 정해진 뒤(첫 쿼리 시점)에 실제 연결을 고르도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicas();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    private HikariDataSource replica(String name, ReadWriteRoutingProperties.Replica replica,
+                                     DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null
+                ? replica.getUsername() : dataSourceProperties.determineUsername());
+        dataSource.setPassword(replica.getPassword() != null
+                ? replica.getPassword() : dataSourceProperties.determinePassword());
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeoutMs());
+        dataSource.setInitializationFailTimeout(-1);  // 복제본이 내려가 있어도 기동은 계속
+        dataSource.setReadOnly(true);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
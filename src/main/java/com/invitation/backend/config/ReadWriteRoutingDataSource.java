@@ -0,0 +1,213 @@
+package com.invitation.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 DB로 보내는 DataSource
+// 트랜잭션 시작 후 첫 쿼리 시점에 연결을 정하도록 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+// - 같은 요청에서 쓰기 트랜잭션이 있었으면 이후 읽기도 주 DB (ReadYourWritesGuard)
+// - 정상 복제본이 없거나 복제본 연결에 실패하면 주 DB로 넘긴다
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_LOADED  // 사용 중인 연결이 가장 적은 복제본 (HikariCP 풀 기준)
+    }
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter failoverCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Selection selection,
+                                      int healthCheckTimeoutSeconds, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.selection = selection;
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.primaryCounter = meterRegistry.counter("datasource.routing", "target", "primary");
+        this.replicaCounter = meterRegistry.counter("datasource.routing", "target", "replica");
+        this.failoverCounter = meterRegistry.counter("datasource.routing.failover");
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("복제본 상태 (1: 정상)")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesGuard.markWritten();
+            }
+            return PRIMARY;
+        }
+        if (ReadYourWritesGuard.hasWritten()) {
+            return PRIMARY;
+        }
+        Replica replica = selectReplica();
+        return replica == null ? PRIMARY : replica.name;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            primaryCounter.increment();
+            return primary.getConnection();
+        }
+
+        Replica replica = find(key);
+        try {
+            Connection connection = replica.dataSource.getConnection();
+            replicaCounter.increment();
+            return connection;
+        } catch (SQLException e) {
+            // 다음 상태 확인 전까지 이 복제본은 제외
+            markDown(replica, e.getMessage());
+            failoverCounter.increment();
+            primaryCounter.increment();
+            return primary.getConnection();
+        }
+    }
+
+    // 복제본 상태 확인 (주기적으로 호출, 실패한 복제본은 다시 통과하면 복귀)
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(healthCheckTimeoutSeconds)) {
+                    markUp(replica);
+                } else {
+                    markDown(replica, "연결 검증 실패");
+                }
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    // 복제본별 상태 (이름 -> 정상 여부)
+    public Map<String, Boolean> replicaHealth() {
+        Map<String, Boolean> health = new HashMap<>();
+        replicas.forEach(replica -> health.put(replica.name, replica.healthy));
+        return health;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+    }
+
+    private Replica selectReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        // 순번부터 한 바퀴 돌며 정상 복제본을 고른다 (최소 부하는 동률일 때 순번 우선)
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        Replica selected = null;
+        int selectedLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (!candidate.healthy) {
+                continue;
+            }
+            if (selection == Selection.ROUND_ROBIN) {
+                return candidate;
+            }
+            int load = candidate.activeConnections();
+            if (load < selectedLoad) {
+                selected = candidate;
+                selectedLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    private Replica find(Object key) {
+        for (Replica replica : replicas) {
+            if (replica.name.equals(key)) {
+                return replica;
+            }
+        }
+        throw new IllegalStateException("알 수 없는 복제본: " + key);
+    }
+
+    private void markUp(Replica replica) {
+        if (!replica.healthy) {
+            replica.healthy = true;
+            log.info("복제본 복구 - {}", replica.name);
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("복제본 제외, 주 DB로 전환 - {}, 원인: {}", replica.name, reason);
+        }
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("DataSource 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;  // 첫 상태 확인 전에는 정상으로 간주 (실패 시 즉시 전환됨)
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getActiveConnections();
+            }
+            return 0;
+        }
+    }
+}
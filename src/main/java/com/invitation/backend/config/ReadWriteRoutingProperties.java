@@ -0,0 +1,33 @@
+package com.invitation.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 읽기 전용 트랜잭션의 복제본 분산 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReadWriteRoutingProperties {
+
+    private boolean enabled = false;
+    private ReadWriteRoutingDataSource.Selection selection = ReadWriteRoutingDataSource.Selection.ROUND_ROBIN;
+    private long healthCheckIntervalMs = 5000;
+    private int healthCheckTimeoutSeconds = 2;
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;             // 비어 있으면 spring.datasource.username
+        private String password;             // 비어 있으면 spring.datasource.password
+        private int maximumPoolSize = 10;
+        private long connectionTimeoutMs = 1000;  // 장애 복제본에서 오래 기다리지 않고 주 DB로 넘긴다
+    }
+}
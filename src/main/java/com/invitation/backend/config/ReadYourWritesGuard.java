@@ -0,0 +1,26 @@
+package com.invitation.backend.config;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+// 같은 요청 안에서 쓰기 이후의 읽기는 주 DB로 보낸다 (복제 지연으로 방금 쓴 값이 안 보이는 것 방지)
+// 요청 밖(스케줄러, 비동기 스트리밍)에서는 기록하지 않는다
+final class ReadYourWritesGuard {
+
+    private static final String WRITTEN_ATTRIBUTE = ReadYourWritesGuard.class.getName() + ".written";
+
+    private ReadYourWritesGuard() {
+    }
+
+    static void markWritten() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(WRITTEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null) {
+            attributes.setAttribute(WRITTEN_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    static boolean hasWritten() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(WRITTEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
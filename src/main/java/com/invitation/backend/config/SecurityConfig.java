@@ -1,10 +1,11 @@
 package com.invitation.backend.config;
 
-import jakarta.servlet.Filter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -21,13 +22,38 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final Filter jwtAuthenticationFilter;
+    // 인증 없이 접근 가능한 경로 (JWT 필터도 건너뜀)
+    public static final String[] PUBLIC_PATHS = {
+            "/api/auth/**", "/api/test/**", "/api/events/share/**", "/api/rsvp/**"
+    };
+
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final AuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final AccessDeniedHandler jwtAccessDeniedHandler;
 
     @Value("${security.csrf.enabled}")
     private boolean csrfEnabled;
 
+    // actuator 전용 체인 (management 포트, API 체인보다 먼저 매칭)
+    // 127.0.0.1에만 열려 있더라도 지표 수집과 상태 확인 외의 엔드포인트는 막는다
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session
+                    .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .authorizeHttpRequests(auth -> auth
+                    .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                    .anyRequest().denyAll()
+            );
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         // CSRF 설정
@@ -42,15 +68,15 @@ public class SecurityConfig {
                     .sessionCreationPolicy(SessionCreationPolicy.STATELESS)  // 세션 사용 안 함
             )
             .authorizeHttpRequests(auth -> auth
-                    .requestMatchers("/api/auth/**", "/api/test/**", "/api/events/share/**", "/api/rsvp/**").permitAll()
+                    .requestMatchers(PUBLIC_PATHS).permitAll()
                     .anyRequest().authenticated()
             )
             .exceptionHandling(exception -> exception
                     .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                     .accessDeniedHandler(jwtAccessDeniedHandler)
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);  // JWT 필터 추가
-        ;
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)  // JWT 필터 추가
+            .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);  // 요청 제한은 인증보다 먼저
 
         return http.build();
     }
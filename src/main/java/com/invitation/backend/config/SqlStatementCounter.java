@@ -0,0 +1,29 @@
+package com.invitation.backend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 요청 스레드에서 Hibernate가 실행한 SQL 수 집계 (JdbcTemplate 직접 실행분은 제외)
+// hibernate.session_factory.statement_inspector로 등록되며 SQL은 변경하지 않는다
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int get() {
+        return COUNT.get()[0];
+    }
+
+    // 요청이 끝나면 스레드에서 제거
+    public static void clear() {
+        COUNT.remove();
+    }
+}
@@ -0,0 +1,20 @@
+package com.invitation.backend.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 서명 검증을 마친 토큰 정보
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final Long userId;      // 이전 버전 토큰에는 없을 수 있음
+    private final String username;
+    private final Instant expiresAt;
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt);
+    }
+}
@@ -1,24 +1,34 @@
 package com.invitation.backend.controller;
 
+import com.invitation.backend.dto.BulkEventRequest;
+import com.invitation.backend.dto.BulkEventResponse;
+import com.invitation.backend.dto.CursorPageResponse;
 import com.invitation.backend.dto.EventCreateRequest;
+import com.invitation.backend.dto.EventListSort;
 import com.invitation.backend.dto.EventResponse;
 import com.invitation.backend.dto.EventUpdateRequest;
+import com.invitation.backend.dto.SharedEventPayload;
 import com.invitation.backend.service.EventService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/events")
 @RequiredArgsConstructor
 public class EventController {
 
+    private static final String VIEW_COUNT_HEADER = "X-View-Count";
+
     private final EventService eventService;
 
     // 초대장 생성
@@ -30,11 +40,15 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    // 내 초대장 목록 조회
+    // 내 초대장 목록 조회 (커서 기반 페이지, sort=createdAt|eventDate)
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getMyEvents(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        List<EventResponse> responses = eventService.getMyEvents(userDetails.getUsername());
+    public ResponseEntity<CursorPageResponse<EventResponse>> getMyEvents(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort) {
+        CursorPageResponse<EventResponse> responses = eventService.getMyEvents(
+                userDetails.getUsername(), cursor, size, EventListSort.from(sort));
         return ResponseEntity.ok(responses);
     }
 
@@ -48,10 +62,68 @@ public class EventController {
     }
 
     // 공유 링크로 조회 (비회원 접근 가능)
+    // 미리 직렬화된 본문을 그대로 내려주며, 조회수는 X-View-Count 헤더로 분리한다
+    // 조건부 요청(304)도 초대장을 다시 연 것이므로 조회수에 포함한다 (본문만 생략)
     @GetMapping("/share/{shareLink}")
-    public ResponseEntity<EventResponse> getEventByShareLink(@PathVariable String shareLink) {
-        EventResponse response = eventService.getEventByShareLink(shareLink);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getEventByShareLink(
+            @PathVariable String shareLink,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        SharedEventPayload payload = eventService.getEventByShareLink(shareLink);
+        boolean gzip = payload.hasGzip() && acceptsGzip(acceptEncoding);
+
+        // 304에도 200과 같은 캐시 헤더를 보낸다 (캐시가 저장된 응답의 헤더를 갱신하므로)
+        HttpStatus status = payload.matches(ifNoneMatch) ? HttpStatus.NOT_MODIFIED : HttpStatus.OK;
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status)
+                .eTag(payload.getEtagHeader(gzip))
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(VIEW_COUNT_HEADER, String.valueOf(payload.getViewCount()));
+
+        if (status == HttpStatus.NOT_MODIFIED) {
+            return builder.build();
+        }
+        builder.contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.getGzipJson());
+        }
+        return builder.body(payload.getJson());
+    }
+
+    // Accept-Encoding에서 gzip 허용 여부 (q=0은 거부, gzip이 명시되지 않았으면 *를 따른다)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double effective = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return effective != null && effective > 0;
+    }
+
+    // q 파라미터 (없거나 잘못된 값이면 1)
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 1.0;
+                }
+            }
+        }
+        return 1.0;
     }
 
     // 초대장 수정
@@ -73,11 +145,15 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
 
-    // 휴지통 목록 조회
+    // 휴지통 목록 조회 (커서 기반 페이지, sort=createdAt|eventDate)
     @GetMapping("/trash")
-    public ResponseEntity<List<EventResponse>> getTrashedEvents(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        List<EventResponse> responses = eventService.getTrashedEvents(userDetails.getUsername());
+    public ResponseEntity<CursorPageResponse<EventResponse>> getTrashedEvents(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort) {
+        CursorPageResponse<EventResponse> responses = eventService.getTrashedEvents(
+                userDetails.getUsername(), cursor, size, EventListSort.from(sort));
         return ResponseEntity.ok(responses);
     }
 
@@ -90,6 +166,33 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    // 일괄 삭제 (소프트 삭제)
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkEventResponse> bulkDeleteEvents(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody BulkEventRequest request) {
+        BulkEventResponse response = eventService.bulkDeleteEvents(userDetails.getUsername(), request.getEventIds());
+        return ResponseEntity.ok(response);
+    }
+
+    // 일괄 복원
+    @PostMapping("/bulk/restore")
+    public ResponseEntity<BulkEventResponse> bulkRestoreEvents(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody BulkEventRequest request) {
+        BulkEventResponse response = eventService.bulkRestoreEvents(userDetails.getUsername(), request.getEventIds());
+        return ResponseEntity.ok(response);
+    }
+
+    // 일괄 영구 삭제
+    @PostMapping("/bulk/permanent-delete")
+    public ResponseEntity<BulkEventResponse> bulkPermanentDeleteEvents(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody BulkEventRequest request) {
+        BulkEventResponse response = eventService.bulkPermanentDeleteEvents(userDetails.getUsername(), request.getEventIds());
+        return ResponseEntity.ok(response);
+    }
+
     // 영구 삭제
     @DeleteMapping("/{eventId}/permanent")
     public ResponseEntity<Void> permanentDeleteEvent(
@@ -1,18 +1,21 @@
 package com.invitation.backend.controller;
 
+import com.invitation.backend.dto.CursorPageResponse;
 import com.invitation.backend.dto.RSVPCreateRequest;
 import com.invitation.backend.dto.RSVPResponse;
+import com.invitation.backend.dto.RSVPSummaryResponse;
+import com.invitation.backend.service.RSVPExportService;
 import com.invitation.backend.service.RSVPService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,24 +24,56 @@ public class RSVPController {
     private final RSVPService rsvpService;
 
     // 참석 응답 등록 (비회원 가능)
+    // 비동기 적재 모드에서는 접수 즉시 202를 반환한다
     @PostMapping("/api/events/share/{shareLink}/rsvp")
     public ResponseEntity<RSVPResponse> createRSVP(
             @PathVariable String shareLink,
             @Valid @RequestBody RSVPCreateRequest request,
             HttpServletRequest httpRequest) {
+        if (rsvpService.isAsyncIngest()) {
+            RSVPResponse accepted = rsvpService.enqueueRSVP(shareLink, request, httpRequest);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted);
+        }
+
         RSVPResponse response = rsvpService.createRSVP(shareLink, request, httpRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    // RSVP 목록 조회 (작성자만)
+    // RSVP 목록 조회 (작성자만, 커서 기반 페이지)
     @GetMapping("/api/events/{eventId}/rsvp")
-    public ResponseEntity<List<RSVPResponse>> getRSVPList(
+    public ResponseEntity<CursorPageResponse<RSVPResponse>> getRSVPList(
             @AuthenticationPrincipal UserDetails userDetails,
-            @PathVariable Long eventId) {
-        List<RSVPResponse> responses = rsvpService.getRSVPList(userDetails.getUsername(), eventId);
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<RSVPResponse> responses = rsvpService.getRSVPList(userDetails.getUsername(), eventId, cursor, size);
         return ResponseEntity.ok(responses);
     }
 
+    // RSVP 내보내기 (작성자만, CSV 또는 NDJSON 스트리밍)
+    @GetMapping("/api/events/{eventId}/rsvp/export")
+    public ResponseEntity<StreamingResponseBody> exportRSVPs(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "csv") String format) {
+        RSVPExportService.ExportFormat exportFormat = RSVPExportService.ExportFormat.from(format);
+        StreamingResponseBody body = rsvpService.exportRSVPs(userDetails.getUsername(), eventId, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"rsvps-" + eventId + "." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // RSVP 집계 조회 (작성자만)
+    @GetMapping("/api/events/{eventId}/rsvp/summary")
+    public ResponseEntity<RSVPSummaryResponse> getRSVPSummary(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long eventId) {
+        RSVPSummaryResponse response = rsvpService.getRSVPSummary(userDetails.getUsername(), eventId);
+        return ResponseEntity.ok(response);
+    }
+
     // RSVP 수정
     @PutMapping("/api/rsvp/{rsvpId}")
     public ResponseEntity<RSVPResponse> updateRSVP(
@@ -9,7 +9,11 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_user_deleted_created", columnList = "user_id, deleted_at, created_at, id"),
+        @Index(name = "idx_events_user_deleted_event_date", columnList = "user_id, deleted_at, event_date, id"),
+        @Index(name = "idx_events_deleted_at", columnList = "deleted_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -46,7 +50,8 @@ public class Event {
     @Column(columnDefinition = "TEXT")
     private String customContent;  // 커스텀 내용 (JSON)
 
-    @Column(unique = true, length = 100)
+    // 고정 8자리, 대소문자 구분 (base62)
+    @Column(unique = true, length = 8, columnDefinition = "char(8) character set ascii collate ascii_bin")
     private String shareLink;  // 공유 링크
 
     @Column(nullable = false)
@@ -81,11 +86,6 @@ public class Event {
         this.deletedAt = null;
     }
 
-    // 조회수 증가
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
     // 초대장 정보 수정
     public void update(EventUpdateRequest request) {
         this.title = request.getTitle();
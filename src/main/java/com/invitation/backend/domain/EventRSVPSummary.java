@@ -0,0 +1,26 @@
+package com.invitation.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 이벤트별 RSVP 집계 (응답 등록/수정/삭제 시 증분 갱신)
+@Entity
+@Table(name = "event_rsvp_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EventRSVPSummary {
+
+    @Id
+    private Long eventId;
+
+    @Column(nullable = false)
+    private Long attendingCount;  // 참석 응답 수
+
+    @Column(nullable = false)
+    private Long notAttendingCount;  // 불참 응답 수
+
+    @Column(nullable = false)
+    private Long companionCount;  // 참석 응답의 동반 인원 합
+}
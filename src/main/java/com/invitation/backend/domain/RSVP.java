@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "rsvps")
+@Table(name = "rsvps", indexes = {
+        @Index(name = "idx_rsvps_event_id_id", columnList = "event_id, id"),
+        @Index(name = "idx_rsvps_event_ip_guest", columnList = "event_id, ip_address, guest_name, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
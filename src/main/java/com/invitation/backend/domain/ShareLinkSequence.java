@@ -0,0 +1,20 @@
+package com.invitation.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 공유 링크 일련번호 블록 할당용 시퀀스
+@Entity
+@Table(name = "share_link_sequences")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ShareLinkSequence {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private Long nextValue;  // 다음 블록 시작 번호
+}
@@ -0,0 +1,18 @@
+package com.invitation.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkEventRequest {
+
+    @NotEmpty(message = "초대장 ID 목록은 필수입니다")
+    @Size(max = 100, message = "한 번에 100개까지 처리할 수 있습니다")
+    private List<@NotNull Long> eventIds;
+}
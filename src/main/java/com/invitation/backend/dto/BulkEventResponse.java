@@ -0,0 +1,34 @@
+package com.invitation.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 처리 결과 (ID별 결과 포함)
+@Getter
+@AllArgsConstructor
+public class BulkEventResponse {
+
+    private List<Result> results;
+    private int succeeded;
+    private int failed;
+
+    public static BulkEventResponse of(List<Result> results) {
+        int succeeded = (int) results.stream().filter(result -> result.getStatus() == Status.SUCCESS).count();
+        return new BulkEventResponse(results, succeeded, results.size() - succeeded);
+    }
+
+    public enum Status {
+        SUCCESS,        // 처리됨
+        NOT_FOUND,      // 없거나 본인 초대장이 아님
+        INVALID_STATE   // 이미 삭제/복원된 상태 등 처리할 수 없는 상태
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private Long eventId;
+        private Status status;
+    }
+}
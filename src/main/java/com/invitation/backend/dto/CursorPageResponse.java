@@ -0,0 +1,20 @@
+package com.invitation.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 페이지 응답 (전체 개수 조회 없음)
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;  // 다음 페이지가 없으면 null
+    private boolean hasNext;
+
+    public static <T> CursorPageResponse<T> of(List<T> items, String nextCursor) {
+        return new CursorPageResponse<>(items, nextCursor, nextCursor != null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.invitation.backend.dto;
+
+// 초대장 목록 정렬 기준
+public enum EventListSort {
+    CREATED_AT,   // 생성일 최신순
+    EVENT_DATE;   // 이벤트 날짜 빠른순
+
+    public static EventListSort from(String value) {
+        if (value == null || value.isBlank() || value.equalsIgnoreCase("createdAt")) {
+            return CREATED_AT;
+        }
+        if (value.equalsIgnoreCase("eventDate")) {
+            return EVENT_DATE;
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + value);
+    }
+}
@@ -0,0 +1,9 @@
+package com.invitation.backend.dto;
+
+import java.time.LocalDateTime;
+
+public interface EventOwnershipProjection {
+    Long getId();
+    String getShareLink();
+    LocalDateTime getDeletedAt();
+}
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class EventResponse {
 
@@ -30,6 +30,11 @@ public class EventResponse {
 
     // Entity -> DTO 변환
     public static EventResponse from(Event event) {
+        return from(event, 0L);
+    }
+
+    // Entity -> DTO 변환 (아직 DB에 반영되지 않은 조회수 포함)
+    public static EventResponse from(Event event, long pendingViewCount) {
         return EventResponse.builder()
                 .id(event.getId())
                 .title(event.getTitle())
@@ -41,7 +46,7 @@ public class EventResponse {
                 .templateType(event.getTemplateType())
                 .customContent(event.getCustomContent())
                 .shareLink(event.getShareLink())
-                .viewCount(event.getViewCount())
+                .viewCount(event.getViewCount() + pendingViewCount)
                 .createdAt(event.getCreatedAt())
                 .updatedAt(event.getUpdatedAt())
                 .build();
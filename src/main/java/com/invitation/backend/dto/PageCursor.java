@@ -0,0 +1,47 @@
+package com.invitation.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 페이지 커서 인코딩 (마지막 행의 정렬 키를 불투명한 토큰으로 전달)
+public final class PageCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private PageCursor() {
+    }
+
+    public static String encode(String... keys) {
+        String raw = String.join(SEPARATOR, keys);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 첫 키(정렬 키, 예: 생성 시각)에는 구분자가 들어갈 수 있으므로 뒤에서부터 나눈다
+            String[] keys = new String[expectedKeys];
+            int end = raw.length();
+            for (int i = expectedKeys - 1; i > 0; i--) {
+                int at = raw.lastIndexOf(SEPARATOR, end - 1);
+                if (at < 0) {
+                    throw new IllegalArgumentException("잘못된 커서입니다");
+                }
+                keys[i] = raw.substring(at + SEPARATOR.length(), end);
+                end = at;
+            }
+            keys[0] = raw.substring(0, end);
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+
+    public static long decodeId(String cursor) {
+        try {
+            return Long.parseLong(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+}
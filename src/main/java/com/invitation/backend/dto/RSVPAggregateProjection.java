@@ -0,0 +1,9 @@
+package com.invitation.backend.dto;
+
+import com.invitation.backend.domain.AttendanceType;
+
+public interface RSVPAggregateProjection {
+    AttendanceType getAttendance();
+    Long getResponses();
+    Long getCompanions();
+}
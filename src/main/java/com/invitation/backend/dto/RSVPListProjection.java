@@ -0,0 +1,16 @@
+package com.invitation.backend.dto;
+
+import com.invitation.backend.domain.AttendanceType;
+
+import java.time.LocalDateTime;
+
+public interface RSVPListProjection {
+    Long getId();
+    String getGuestName();
+    AttendanceType getAttendance();
+    Integer getCompanionCount();
+    String getPhone();
+    String getEmail();
+    String getMessage();
+    LocalDateTime getCreatedAt();
+}
@@ -35,4 +35,18 @@ public class RSVPResponse {
                 .createdAt(rsvp.getCreatedAt())
                 .build();
     }
+
+    // Projection을 DTO로 변환
+    public static RSVPResponse from(RSVPListProjection projection) {
+        return RSVPResponse.builder()
+                .id(projection.getId())
+                .guestName(projection.getGuestName())
+                .attendance(projection.getAttendance())
+                .companionCount(projection.getCompanionCount())
+                .phone(projection.getPhone())
+                .email(projection.getEmail())
+                .message(projection.getMessage())
+                .createdAt(projection.getCreatedAt())
+                .build();
+    }
 }
\ No newline at end of file
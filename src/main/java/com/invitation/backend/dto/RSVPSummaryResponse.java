@@ -0,0 +1,28 @@
+package com.invitation.backend.dto;
+
+import com.invitation.backend.domain.EventRSVPSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RSVPSummaryResponse {
+
+    private Long eventId;
+    private Long attendingCount;
+    private Long notAttendingCount;
+    private Long companionCount;
+    private Long totalGuests;  // 참석자 + 동반 인원
+
+    public static RSVPSummaryResponse from(EventRSVPSummary summary) {
+        return RSVPSummaryResponse.builder()
+                .eventId(summary.getEventId())
+                .attendingCount(summary.getAttendingCount())
+                .notAttendingCount(summary.getNotAttendingCount())
+                .companionCount(summary.getCompanionCount())
+                .totalGuests(summary.getAttendingCount() + summary.getCompanionCount())
+                .build();
+    }
+}
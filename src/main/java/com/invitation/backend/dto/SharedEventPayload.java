@@ -0,0 +1,52 @@
+package com.invitation.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 공유 링크 응답 (미리 직렬화된 본문 + ETag, 조회수는 본문과 분리)
+@Getter
+@AllArgsConstructor
+public class SharedEventPayload {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private String etag;          // 따옴표 없는 ETag 값
+    private byte[] json;          // viewCount를 제외한 JSON 본문
+    private byte[] gzipJson;      // gzip 압축 본문 (압축 이득이 없으면 null)
+    private long viewCount;
+
+    public boolean hasGzip() {
+        return gzipJson != null;
+    }
+
+    // 인코딩별 강한 ETag
+    public String getEtagHeader(boolean gzip) {
+        return "\"" + etag + (gzip ? GZIP_SUFFIX : "") + "\"";
+    }
+
+    // If-None-Match 비교 (약한 비교, 압축 여부와 무관하게 같은 버전이면 일치)
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            if (tag.endsWith(GZIP_SUFFIX)) {
+                tag = tag.substring(0, tag.length() - GZIP_SUFFIX.length());
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,9 @@
+package com.invitation.backend.exception;
+
+// RSVP 적재 대기열이 가득 찬 경우 (503)
+public class RSVPQueueFullException extends RuntimeException {
+
+    public RSVPQueueFullException() {
+        super("요청이 많아 잠시 후 다시 시도해주세요");
+    }
+}
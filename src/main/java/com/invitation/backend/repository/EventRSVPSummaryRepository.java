@@ -0,0 +1,59 @@
+package com.invitation.backend.repository;
+
+import com.invitation.backend.domain.EventRSVPSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface EventRSVPSummaryRepository extends JpaRepository<EventRSVPSummary, Long> {
+
+    // 빈 집계 생성 (이벤트 생성 시, 존재 여부 조회 없이 INSERT)
+    @Modifying
+    @Query(value = "INSERT INTO event_rsvp_summaries (event_id, attending_count, not_attending_count, companion_count) "
+            + "VALUES (:eventId, 0, 0, 0)", nativeQuery = true)
+    void insertEmpty(@Param("eventId") Long eventId);
+
+    // 재계산 결과 저장 (다른 요청이 먼저 만든 경우 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO event_rsvp_summaries (event_id, attending_count, not_attending_count, companion_count) "
+            + "VALUES (:eventId, :attending, :notAttending, :companions)", nativeQuery = true)
+    void insertIfAbsent(@Param("eventId") Long eventId,
+                        @Param("attending") long attending,
+                        @Param("notAttending") long notAttending,
+                        @Param("companions") long companions);
+
+    // 재계산 결과로 집계 생성, 다른 트랜잭션이 먼저 만들었으면 증분만 더한다
+    @Modifying
+    @Query(value = "INSERT INTO event_rsvp_summaries (event_id, attending_count, not_attending_count, companion_count) "
+            + "VALUES (:eventId, :attending, :notAttending, :companions) "
+            + "ON DUPLICATE KEY UPDATE attending_count = attending_count + :deltaAttending, "
+            + "not_attending_count = not_attending_count + :deltaNotAttending, "
+            + "companion_count = companion_count + :deltaCompanions", nativeQuery = true)
+    void insertOrApplyDelta(@Param("eventId") Long eventId,
+                            @Param("attending") long attending,
+                            @Param("notAttending") long notAttending,
+                            @Param("companions") long companions,
+                            @Param("deltaAttending") long deltaAttending,
+                            @Param("deltaNotAttending") long deltaNotAttending,
+                            @Param("deltaCompanions") long deltaCompanions);
+
+    // 집계 일괄 삭제 (이벤트 영구 삭제 시)
+    @Modifying
+    @Query("delete from EventRSVPSummary s where s.eventId in :eventIds")
+    int deleteAllByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    // 증분 반영 (집계 행이 없으면 0 반환)
+    @Modifying
+    @Query("update EventRSVPSummary s set s.attendingCount = s.attendingCount + :attending, "
+            + "s.notAttendingCount = s.notAttendingCount + :notAttending, "
+            + "s.companionCount = s.companionCount + :companions where s.eventId = :eventId")
+    int applyDelta(@Param("eventId") Long eventId,
+                   @Param("attending") long attending,
+                   @Param("notAttending") long notAttending,
+                   @Param("companions") long companions);
+}
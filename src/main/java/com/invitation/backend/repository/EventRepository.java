@@ -1,26 +1,132 @@
 package com.invitation.backend.repository;
 
 import com.invitation.backend.domain.Event;
-import com.invitation.backend.domain.User;
 import com.invitation.backend.dto.EventListProjection;
+import com.invitation.backend.dto.EventOwnershipProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+    // 목록 조회용 컬럼 (EventListProjection)
+    String LIST_SELECT = "select e.id as id, e.title as title, e.eventDate as eventDate, e.eventTime as eventTime, "
+            + "e.location as location, e.shareLink as shareLink, e.viewCount as viewCount, "
+            + "e.createdAt as createdAt, e.updatedAt as updatedAt from Event e ";
+
+    // 생성일 최신순
+    String ORDER_BY_CREATED_AT = "order by e.createdAt desc, e.id desc";
+
+    // 이벤트 날짜 빠른순
+    String ORDER_BY_EVENT_DATE = "order by e.eventDate asc, e.id asc";
+
+    // 생성일 최신순 키셋 조건
+    // 첫 페이지는 커서 조건 없는 쿼리를 따로 두어 ":cursor is null or ..." 때문에 인덱스 범위 탐색을 못 하는 일이 없게 한다
+    String AFTER_CREATED_AT = "and (e.createdAt < :cursorCreatedAt "
+            + "or (e.createdAt = :cursorCreatedAt and e.id < :cursorId)) " + ORDER_BY_CREATED_AT;
+
+    // 이벤트 날짜 빠른순 키셋 조건
+    String AFTER_EVENT_DATE = "and (e.eventDate > :cursorEventDate "
+            + "or (e.eventDate = :cursorEventDate and e.id > :cursorId)) " + ORDER_BY_EVENT_DATE;
+
+    // 작성자 본인의 삭제되지 않은 이벤트
+    String ACTIVE = "where e.user.username = :username and e.deletedAt is null ";
+
+    // 작성자 본인의 삭제된 이벤트 (휴지통)
+    String TRASHED = "where e.user.username = :username and e.deletedAt is not null ";
+
     // 공유 링크로 조회 (전체 엔티티 필요)
     Optional<Event> findByShareLink(String shareLink);
 
-    // 사용자의 이벤트 목록 (삭제되지 않은 것만)
-    List<EventListProjection> findProjectedByUserAndDeletedAtIsNull(User user);
+    // 사용자의 이벤트 목록 첫 페이지 (삭제되지 않은 것만, 생성일순)
+    @Query(LIST_SELECT + ACTIVE + ORDER_BY_CREATED_AT)
+    Slice<EventListProjection> findActiveByCreatedAt(@Param("username") String username, Pageable pageable);
+
+    // 사용자의 이벤트 목록 다음 페이지 (삭제되지 않은 것만, 생성일순)
+    @Query(LIST_SELECT + ACTIVE + AFTER_CREATED_AT)
+    Slice<EventListProjection> findActiveByCreatedAtAfter(@Param("username") String username,
+                                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Pageable pageable);
+
+    // 사용자의 이벤트 목록 첫 페이지 (삭제되지 않은 것만, 이벤트 날짜순)
+    @Query(LIST_SELECT + ACTIVE + ORDER_BY_EVENT_DATE)
+    Slice<EventListProjection> findActiveByEventDate(@Param("username") String username, Pageable pageable);
+
+    // 사용자의 이벤트 목록 다음 페이지 (삭제되지 않은 것만, 이벤트 날짜순)
+    @Query(LIST_SELECT + ACTIVE + AFTER_EVENT_DATE)
+    Slice<EventListProjection> findActiveByEventDateAfter(@Param("username") String username,
+                                                          @Param("cursorEventDate") LocalDate cursorEventDate,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Pageable pageable);
+
+    // 사용자의 삭제된 이벤트 목록 첫 페이지 (휴지통, 생성일순)
+    @Query(LIST_SELECT + TRASHED + ORDER_BY_CREATED_AT)
+    Slice<EventListProjection> findTrashedByCreatedAt(@Param("username") String username, Pageable pageable);
+
+    // 사용자의 삭제된 이벤트 목록 다음 페이지 (휴지통, 생성일순)
+    @Query(LIST_SELECT + TRASHED + AFTER_CREATED_AT)
+    Slice<EventListProjection> findTrashedByCreatedAtAfter(@Param("username") String username,
+                                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Pageable pageable);
+
+    // 사용자의 삭제된 이벤트 목록 첫 페이지 (휴지통, 이벤트 날짜순)
+    @Query(LIST_SELECT + TRASHED + ORDER_BY_EVENT_DATE)
+    Slice<EventListProjection> findTrashedByEventDate(@Param("username") String username, Pageable pageable);
+
+    // 사용자의 삭제된 이벤트 목록 다음 페이지 (휴지통, 이벤트 날짜순)
+    @Query(LIST_SELECT + TRASHED + AFTER_EVENT_DATE)
+    Slice<EventListProjection> findTrashedByEventDateAfter(@Param("username") String username,
+                                                           @Param("cursorEventDate") LocalDate cursorEventDate,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Pageable pageable);
+
+    // 작성자 본인의 이벤트 조회 (삭제되지 않은 것만) - 소유자 확인을 같은 쿼리에서 처리
+    Optional<Event> findByIdAndUserUsernameAndDeletedAtIsNull(Long id, String username);
+
+    // 작성자 본인의 이벤트 조회 (삭제 여부 무관)
+    Optional<Event> findByIdAndUserUsername(Long id, String username);
+
+    // 작성자 본인의 이벤트 존재 여부 (삭제되지 않은 것만)
+    boolean existsByIdAndUserUsernameAndDeletedAtIsNull(Long id, String username);
+
+    // 일괄 처리 대상 중 작성자 본인의 이벤트 (상태 포함)
+    // 행 잠금(SELECT ... FOR UPDATE)으로 상태 확인과 일괄 변경 사이에 다른 요청이 상태를 바꾸지 못하게 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id as id, e.shareLink as shareLink, e.deletedAt as deletedAt from Event e "
+            + "where e.id in :ids and e.user.username = :username")
+    List<EventOwnershipProjection> findOwnedByIds(@Param("ids") Collection<Long> ids, @Param("username") String username);
+
+    // 일괄 소프트 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("update Event e set e.deletedAt = :now, e.updatedAt = :now "
+            + "where e.id in :ids and e.user.username = :username and e.deletedAt is null")
+    int softDeleteAllByIds(@Param("ids") Collection<Long> ids, @Param("username") String username,
+                           @Param("now") LocalDateTime now);
 
-    // 사용자의 삭제된 이벤트 목록 (휴지통)
-    List<EventListProjection> findProjectedByUserAndDeletedAtIsNotNull(User user);
+    // 일괄 복원
+    @Modifying(clearAutomatically = true)
+    @Query("update Event e set e.deletedAt = null, e.updatedAt = :now "
+            + "where e.id in :ids and e.user.username = :username and e.deletedAt is not null")
+    int restoreAllByIds(@Param("ids") Collection<Long> ids, @Param("username") String username,
+                        @Param("now") LocalDateTime now);
 
-    // 특정 이벤트 조회 (삭제되지 않은 것만) - 전체 엔티티 필요
-    Optional<Event> findByIdAndDeletedAtIsNull(Long id);
-}
\ No newline at end of file
+    // 일괄 영구 삭제 (휴지통에 있는 것만)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Event e where e.id in :ids and e.user.username = :username and e.deletedAt is not null")
+    int deleteTrashedByIds(@Param("ids") Collection<Long> ids, @Param("username") String username);
+}
@@ -2,17 +2,45 @@ package com.invitation.backend.repository;
 
 import com.invitation.backend.domain.Event;
 import com.invitation.backend.domain.RSVP;
+import com.invitation.backend.dto.RSVPAggregateProjection;
+import com.invitation.backend.dto.RSVPListProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface RSVPRepository extends JpaRepository<RSVP, Long> {
 
-    // 특정 이벤트의 모든 RSVP 조회
-    List<RSVP> findByEvent(Event event);
+    // 특정 이벤트의 RSVP 목록 (id 기준 키셋 페이지, (event_id, id) 인덱스 사용)
+    List<RSVPListProjection> findByEventIdAndIdGreaterThanOrderByIdAsc(Long eventId, Long id, Limit limit);
 
     // 특정 이벤트의 RSVP 개수
     long countByEvent(Event event);
+
+    // 중복 응답 확인 ((event_id, ip_address, guest_name, created_at) 커버링 인덱스 사용, 중복 감지 필터 적중 시에만 호출)
+    boolean existsByEventIdAndIpAddressAndGuestNameAndCreatedAtAfter(
+            Long eventId, String ipAddress, String guestName, LocalDateTime createdAt);
+
+    // 이벤트들의 RSVP 일괄 삭제 (이벤트 영구 삭제 시)
+    @Modifying
+    @Query("delete from RSVP r where r.event.id in :eventIds")
+    int deleteAllByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    // 휴지통에 있는 작성자 본인 이벤트들의 RSVP 일괄 삭제 (일괄 영구 삭제 시)
+    @Modifying
+    @Query("delete from RSVP r where r.event.id in (select e.id from Event e where e.id in :eventIds "
+            + "and e.user.username = :username and e.deletedAt is not null)")
+    int deleteAllByTrashedEventIds(@Param("eventIds") Collection<Long> eventIds, @Param("username") String username);
+
+    // 응답 종류별 집계 (요약 재계산용)
+    @Query("select r.attendance as attendance, count(r) as responses, coalesce(sum(r.companionCount), 0) as companions "
+            + "from RSVP r where r.event.id = :eventId group by r.attendance")
+    List<RSVPAggregateProjection> aggregateByEventId(@Param("eventId") Long eventId);
 }
\ No newline at end of file
@@ -1,32 +1,66 @@
 package com.invitation.backend.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.invitation.backend.config.AuthenticatedUser;
+import com.invitation.backend.config.PrincipalSource;
 import com.invitation.backend.domain.User;
 import com.invitation.backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.Duration;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    // 인증 사용자 캐시 (CACHE 모드에서만 사용)
+    private final Cache<String, AuthenticatedUser> cache;
+
+    public CustomUserDetailsService(
+            UserRepository userRepository,
+            @Value("${security.principal.source:CACHE}") PrincipalSource principalSource,
+            @Value("${security.principal.cache-ttl-seconds:300}") long cacheTtlSeconds,
+            @Value("${security.principal.cache-size:10000}") long cacheSize
+    ) {
+        this.userRepository = userRepository;
+        this.cache = principalSource == PrincipalSource.CACHE
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheSize)
+                        .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                        .build()
+                : null;
+    }
+
+    // 캐시 적중 시 트랜잭션/커넥션 없이 반환 (미스 시 리포지토리 트랜잭션으로 조회)
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        if (cache == null) {
+            return load(username);
+        }
+        return cache.get(username, this::load);
+    }
+
+    // 캐시 무효화 (사용자 정보 변경 시)
+    public void evict(String username) {
+        if (cache != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    private AuthenticatedUser load(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
 
-        return new org.springframework.security.core.userdetails.User(
+        return new AuthenticatedUser(
+                user.getId(),
                 user.getUsername(),
-                user.getPassword(),
-                new ArrayList<>()  // 권한 목록 (나중에 추가 가능)
+                user.getPassword()
         );
     }
-}
\ No newline at end of file
+}
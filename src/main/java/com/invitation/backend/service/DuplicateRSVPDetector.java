@@ -0,0 +1,185 @@
+package com.invitation.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.invitation.backend.repository.RSVPRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 중복 RSVP 감지 (이벤트별 시간 구간 Bloom 필터)
+// 대부분의 제출은 메모리에서 "처음 보는 응답"으로 판정되어 DB 조회 없이 통과하고,
+// 필터가 "이미 본 것 같다"고 할 때만 커버링 인덱스로 실제 중복 여부를 확인한다.
+// 재시작 직후나 다른 인스턴스로 들어온 중복은 걸러지지 않을 수 있다 (최선 노력 방식).
+@Slf4j
+@Component
+public class DuplicateRSVPDetector {
+
+    private final RSVPRepository rsvpRepository;
+    private final boolean enabled;
+    private final boolean reject;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int bitsPerBucket;
+    private final int hashCount;
+    private final Duration window;
+
+    // 이벤트 ID별 구간 필터 (오래 제출이 없는 이벤트는 자동 제거)
+    private final Cache<Long, EventWindow> windows;
+
+    private final Counter probableCounter;
+    private final Counter confirmedCounter;
+
+    public DuplicateRSVPDetector(
+            RSVPRepository rsvpRepository,
+            MeterRegistry meterRegistry,
+            @Value("${rsvp.duplicate.enabled:true}") boolean enabled,
+            @Value("${rsvp.duplicate.reject:true}") boolean reject,
+            @Value("${rsvp.duplicate.window-hours:24}") long windowHours,
+            @Value("${rsvp.duplicate.buckets:4}") int bucketCount,
+            @Value("${rsvp.duplicate.bits-per-bucket:4096}") int bitsPerBucket,
+            @Value("${rsvp.duplicate.hashes:3}") int hashCount,
+            @Value("${rsvp.duplicate.max-events:10000}") long maxEvents
+    ) {
+        if (Integer.bitCount(bitsPerBucket) != 1) {
+            throw new IllegalArgumentException("rsvp.duplicate.bits-per-bucket는 2의 거듭제곱이어야 합니다");
+        }
+        this.rsvpRepository = rsvpRepository;
+        this.enabled = enabled;
+        this.reject = reject;
+        this.window = Duration.ofHours(windowHours);
+        this.bucketCount = bucketCount;
+        this.bucketMillis = Math.max(TimeUnit.HOURS.toMillis(windowHours) / bucketCount, 1);
+        this.bitsPerBucket = bitsPerBucket;
+        this.hashCount = hashCount;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxEvents)
+                .expireAfterAccess(window)
+                .build();
+
+        this.probableCounter = meterRegistry.counter("rsvp.duplicate", "result", "probable");
+        this.confirmedCounter = meterRegistry.counter("rsvp.duplicate", "result", "confirmed");
+    }
+
+    // 중복 확인 후 기록 (중복이면 IllegalArgumentException, reject=false면 경고 로그만 남김)
+    public void checkAndRecord(Long eventId, String ipAddress, String guestName) {
+        if (!enabled || ipAddress == null || guestName == null) {
+            return;
+        }
+
+        long h1 = hash(normalize(ipAddress) + '\u0000' + normalize(guestName));
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        long epoch = System.currentTimeMillis() / bucketMillis;
+
+        EventWindow eventWindow = windows.get(eventId, id -> new EventWindow());
+
+        if (eventWindow.mightContain(h1, h2, epoch)) {
+            probableCounter.increment();
+            // 필터 적중 시에만 DB 확인 (오탐이면 그대로 통과)
+            if (rsvpRepository.existsByEventIdAndIpAddressAndGuestNameAndCreatedAtAfter(
+                    eventId, ipAddress, guestName, LocalDateTime.now().minus(window))) {
+                confirmedCounter.increment();
+                if (reject) {
+                    throw new IllegalArgumentException("이미 같은 이름으로 응답이 등록되었습니다");
+                }
+                log.warn("중복 RSVP 의심 - eventId: {}, ip: {}", eventId, ipAddress);
+            }
+        }
+
+        // 저장이 실패해도 다음 제출은 DB 확인으로 통과하므로 미리 기록해도 안전하다
+        eventWindow.put(h1, h2, epoch);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // FNV-1a 64비트 + 최종 혼합
+    private static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 이벤트 하나의 구간 필터 묶음 (구간이 지나면 가장 오래된 필터를 새 필터로 교체)
+    private final class EventWindow {
+
+        private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(bucketCount);
+
+        boolean mightContain(long h1, long h2, long epoch) {
+            for (int i = 0; i < bucketCount; i++) {
+                Bucket bucket = buckets.get(i);
+                if (bucket != null && epoch - bucket.epoch < bucketCount && bucket.mightContain(h1, h2)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void put(long h1, long h2, long epoch) {
+            int slot = (int) Math.floorMod(epoch, (long) bucketCount);
+            Bucket bucket = buckets.get(slot);
+            if (bucket == null || bucket.epoch != epoch) {
+                Bucket fresh = new Bucket(epoch);
+                bucket = buckets.compareAndSet(slot, bucket, fresh) ? fresh : buckets.get(slot);
+            }
+            bucket.put(h1, h2);
+        }
+    }
+
+    // 구간 하나의 Bloom 필터 (비트 설정은 CAS, 락 없음)
+    private final class Bucket {
+
+        private final long epoch;
+        private final AtomicLongArray bits = new AtomicLongArray(bitsPerBucket / Long.SIZE);
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+
+        boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(h1, h2, i);
+                if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(h1, h2, i);
+                long mask = 1L << index;
+                int word = index >>> 6;
+                long current;
+                while (((current = bits.get(word)) & mask) == 0
+                        && !bits.compareAndSet(word, current, current | mask)) {
+                    // 다른 스레드가 같은 워드를 바꿨으면 다시 시도
+                }
+            }
+        }
+
+        private int index(long h1, long h2, int i) {
+            return (int) ((h1 + i * h2) & (bitsPerBucket - 1));
+        }
+    }
+}
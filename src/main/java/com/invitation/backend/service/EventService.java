@@ -2,18 +2,35 @@ package com.invitation.backend.service;
 
 import com.invitation.backend.domain.Event;
 import com.invitation.backend.domain.User;
+import com.invitation.backend.dto.BulkEventResponse;
+import com.invitation.backend.dto.CursorPageResponse;
 import com.invitation.backend.dto.EventCreateRequest;
 import com.invitation.backend.dto.EventListProjection;
+import com.invitation.backend.dto.EventListSort;
+import com.invitation.backend.dto.EventOwnershipProjection;
 import com.invitation.backend.dto.EventResponse;
 import com.invitation.backend.dto.EventUpdateRequest;
+import com.invitation.backend.dto.PageCursor;
+import com.invitation.backend.dto.SharedEventPayload;
 import com.invitation.backend.repository.EventRepository;
+import com.invitation.backend.repository.RSVPRepository;
 import com.invitation.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,8 +38,19 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class EventService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 존재하지 않는 경우와 타인의 초대장인 경우를 구분하지 않는다
+    private static final String NOT_FOUND_OR_FORBIDDEN = "초대장을 찾을 수 없거나 접근 권한이 없습니다";
+
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ShareLinkCache shareLinkCache;
+    private final ShareLinkGenerator shareLinkGenerator;
+    private final RSVPSummaryService rsvpSummaryService;
+    private final RSVPRepository rsvpRepository;
 
     // 초대장 생성
     @Transactional
@@ -31,8 +59,8 @@ public class EventService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-        // 2. 고유 공유 링크 생성
-        String shareLink = generateUniqueShareLink();
+        // 2. 고유 공유 링크 생성 (DB 조회 없음)
+        String shareLink = shareLinkGenerator.generate();
 
         // 3. Event 엔티티 생성
         Event event = Event.builder()
@@ -50,38 +78,44 @@ public class EventService {
 
         // 4. 저장
         Event savedEvent = eventRepository.save(event);
+        rsvpSummaryService.initialize(savedEvent.getId());
 
         return EventResponse.from(savedEvent);
     }
 
-    // 내 초대장 목록 조회
-    public List<EventResponse> getMyEvents(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        // Projection 사용으로 변경
-        return eventRepository.findProjectedByUserAndDeletedAtIsNull(user)
-                .stream()
-                .map(this::projectionToResponse)
-                .collect(Collectors.toList());
+    // 내 초대장 목록 조회 (커서 기반 페이지)
+    public CursorPageResponse<EventResponse> getMyEvents(String username, String cursor, Integer size, EventListSort sort) {
+        return getEventPage(username, cursor, size, sort, false);
     }
 
     // 초대장 상세 조회 (작성자용)
     public EventResponse getEvent(String username, Long eventId) {
-        Event event = eventRepository.findByIdAndDeletedAtIsNull(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("초대장을 찾을 수 없습니다"));
-
-        // 작성자 확인
-        if (!event.getUser().getUsername().equals(username)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다");
-        }
+        // 작성자 확인을 포함해 한 번에 조회
+        Event event = findOwnedActiveEvent(username, eventId);
 
-        return EventResponse.from(event);
+        return EventResponse.from(event, viewCountBuffer.getPending(eventId));
     }
 
     // 공유 링크로 조회 (비회원 접근 가능)
-    @Transactional
-    public EventResponse getEventByShareLink(String shareLink) {
+    // 캐시 적중 시 트랜잭션/커넥션 및 직렬화 없이 응답한다
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public SharedEventPayload getEventByShareLink(String shareLink) {
+        ShareLinkCache.CachedEvent cached = shareLinkCache.get(shareLink, this::loadSharedEvent);
+
+        // 조회수 증가 (행 잠금 없이 버퍼에 적립 후 주기적으로 일괄 반영)
+        viewCountBuffer.increment(cached.getEventId());
+
+        return cached.toPayload(viewCountBuffer.getPending(cached.getEventId()));
+    }
+
+    // 공유 링크로 이벤트 ID 조회 (캐시 사용, 조회수 증가 없음)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Long getEventIdByShareLink(String shareLink) {
+        return shareLinkCache.get(shareLink, this::loadSharedEvent).getEventId();
+    }
+
+    // 공유 링크 캐시 적재
+    private ShareLinkCache.CachedEvent loadSharedEvent(String shareLink) {
         Event event = eventRepository.findByShareLink(shareLink)
                 .orElseThrow(() -> new IllegalArgumentException("초대장을 찾을 수 없습니다"));
 
@@ -90,35 +124,19 @@ public class EventService {
             throw new IllegalArgumentException("삭제된 초대장입니다");
         }
 
-        // 조회수 증가
-        event.increaseViewCount();
-
-        return EventResponse.from(event);
-    }
-
-    // 고유 공유 링크 생성
-    private String generateUniqueShareLink() {
-        String shareLink;
-        do {
-            shareLink = UUID.randomUUID().toString().substring(0, 8);
-        } while (eventRepository.findByShareLink(shareLink).isPresent());
-
-        return shareLink;
+        LocalDateTime version = event.getUpdatedAt() != null ? event.getUpdatedAt() : event.getCreatedAt();
+        return shareLinkCache.toCachedEvent(EventResponse.from(event), version);
     }
 
     // 초대장 수정
     @Transactional
     public EventResponse updateEvent(String username, Long eventId, EventUpdateRequest request) {
-        Event event = eventRepository.findByIdAndDeletedAtIsNull(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("초대장을 찾을 수 없습니다"));
-
-        // 작성자 확인
-        if (!event.getUser().getUsername().equals(username)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다");
-        }
+        // 작성자 확인을 포함해 한 번에 조회
+        Event event = findOwnedActiveEvent(username, eventId);
 
         // 수정
         event.update(request);
+        shareLinkCache.evict(event.getShareLink());
 
         return EventResponse.from(event);
     }
@@ -126,40 +144,24 @@ public class EventService {
     // 초대장 삭제 (소프트 삭제)
     @Transactional
     public void deleteEvent(String username, Long eventId) {
-        Event event = eventRepository.findByIdAndDeletedAtIsNull(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("초대장을 찾을 수 없습니다"));
-
-        // 작성자 확인
-        if (!event.getUser().getUsername().equals(username)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다");
-        }
+        // 작성자 확인을 포함해 한 번에 조회
+        Event event = findOwnedActiveEvent(username, eventId);
 
         // 소프트 삭제
         event.delete();
+        shareLinkCache.evict(event.getShareLink());
     }
 
-    // 휴지통 목록 조회
-    public List<EventResponse> getTrashedEvents(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        // Projection 사용으로 변경
-        return eventRepository.findProjectedByUserAndDeletedAtIsNotNull(user)
-                .stream()
-                .map(this::projectionToResponse)
-                .collect(Collectors.toList());
+    // 휴지통 목록 조회 (커서 기반 페이지)
+    public CursorPageResponse<EventResponse> getTrashedEvents(String username, String cursor, Integer size, EventListSort sort) {
+        return getEventPage(username, cursor, size, sort, true);
     }
 
     // 초대장 복원
     @Transactional
     public EventResponse restoreEvent(String username, Long eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("초대장을 찾을 수 없습니다"));
-
-        // 작성자 확인
-        if (!event.getUser().getUsername().equals(username)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다");
-        }
+        // 작성자 확인을 포함해 한 번에 조회
+        Event event = findOwnedEvent(username, eventId);
 
         // 이미 복원된 상태인지 확인
         if (event.getDeletedAt() == null) {
@@ -168,6 +170,7 @@ public class EventService {
 
         // 복원
         event.restore();
+        shareLinkCache.evict(event.getShareLink());
 
         return EventResponse.from(event);
     }
@@ -175,21 +178,162 @@ public class EventService {
     // 영구 삭제
     @Transactional
     public void permanentDeleteEvent(String username, Long eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("초대장을 찾을 수 없습니다"));
-
-        // 작성자 확인
-        if (!event.getUser().getUsername().equals(username)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다");
-        }
+        // 작성자 확인을 포함해 한 번에 조회
+        Event event = findOwnedEvent(username, eventId);
 
         // 휴지통에 있는지 확인
         if (event.getDeletedAt() == null) {
             throw new IllegalArgumentException("휴지통에 있는 초대장만 영구 삭제할 수 있습니다");
         }
 
-        // 영구 삭제
+        // 영구 삭제 (RSVP는 엔티티 단위가 아닌 한 번의 DELETE로 정리)
+        rsvpRepository.deleteAllByEventIds(List.of(eventId));
+        rsvpSummaryService.removeAll(List.of(eventId));
         eventRepository.delete(event);
+        shareLinkCache.evict(event.getShareLink());
+    }
+
+    // 일괄 삭제 (소프트 삭제)
+    @Transactional
+    public BulkEventResponse bulkDeleteEvents(String username, List<Long> eventIds) {
+        return bulkApply(username, eventIds, false,
+                ids -> eventRepository.softDeleteAllByIds(ids, username, LocalDateTime.now()));
+    }
+
+    // 일괄 복원
+    @Transactional
+    public BulkEventResponse bulkRestoreEvents(String username, List<Long> eventIds) {
+        return bulkApply(username, eventIds, true,
+                ids -> eventRepository.restoreAllByIds(ids, username, LocalDateTime.now()));
+    }
+
+    // 일괄 영구 삭제 (휴지통에 있는 것만)
+    @Transactional
+    public BulkEventResponse bulkPermanentDeleteEvents(String username, List<Long> eventIds) {
+        return bulkApply(username, eventIds, true, ids -> {
+            rsvpRepository.deleteAllByTrashedEventIds(ids, username);
+            rsvpSummaryService.removeAll(ids);
+            return eventRepository.deleteTrashedByIds(ids, username);
+        });
+    }
+
+    // 일괄 처리 (소유/상태 확인 한 번, 처리 한 번)
+    // 확인한 행은 트랜잭션 끝까지 잠겨 있으므로 처리된 행 수는 SUCCESS 개수와 같아야 한다.
+    // 다르면 ID별 결과를 믿을 수 없으므로 전체를 롤백한다.
+    private BulkEventResponse bulkApply(String username, List<Long> eventIds, boolean trashedOnly,
+                                        ToIntFunction<List<Long>> action) {
+        List<Long> distinctIds = eventIds.stream().distinct().collect(Collectors.toList());
+
+        Map<Long, EventOwnershipProjection> owned = eventRepository.findOwnedByIds(distinctIds, username)
+                .stream()
+                .collect(Collectors.toMap(EventOwnershipProjection::getId, Function.identity()));
+
+        List<Long> targets = new ArrayList<>();
+        List<BulkEventResponse.Result> results = new ArrayList<>();
+        for (Long eventId : distinctIds) {
+            EventOwnershipProjection event = owned.get(eventId);
+            if (event == null) {
+                results.add(new BulkEventResponse.Result(eventId, BulkEventResponse.Status.NOT_FOUND));
+            } else if ((event.getDeletedAt() != null) != trashedOnly) {
+                results.add(new BulkEventResponse.Result(eventId, BulkEventResponse.Status.INVALID_STATE));
+            } else {
+                targets.add(eventId);
+                results.add(new BulkEventResponse.Result(eventId, BulkEventResponse.Status.SUCCESS));
+            }
+        }
+
+        if (!targets.isEmpty()) {
+            int affected = action.applyAsInt(targets);
+            if (affected != targets.size()) {
+                throw new IllegalStateException(
+                        "일괄 처리 결과 불일치 - 대상: " + targets.size() + "건, 처리: " + affected + "건");
+            }
+            targets.forEach(eventId -> shareLinkCache.evict(owned.get(eventId).getShareLink()));
+        }
+
+        return BulkEventResponse.of(results);
+    }
+
+    // 작성자 본인의 이벤트 조회 (삭제되지 않은 것만)
+    private Event findOwnedActiveEvent(String username, Long eventId) {
+        return eventRepository.findByIdAndUserUsernameAndDeletedAtIsNull(eventId, username)
+                .orElseThrow(() -> new IllegalArgumentException(NOT_FOUND_OR_FORBIDDEN));
+    }
+
+    // 작성자 본인의 이벤트 조회 (삭제 여부 무관)
+    private Event findOwnedEvent(String username, Long eventId) {
+        return eventRepository.findByIdAndUserUsername(eventId, username)
+                .orElseThrow(() -> new IllegalArgumentException(NOT_FOUND_OR_FORBIDDEN));
+    }
+
+    // 목록 페이지 조회 (다음 페이지 여부는 Slice로 판단, 전체 개수 조회 없음)
+    private CursorPageResponse<EventResponse> getEventPage(String username, String cursor, Integer size,
+                                                         EventListSort sort, boolean trashed) {
+        Pageable pageable = PageRequest.of(0, resolvePageSize(size));
+        String[] keys = cursor == null ? null : PageCursor.decode(cursor, 2);
+        Long cursorId = keys == null ? null : parseCursorId(keys[1]);
+
+        Slice<EventListProjection> slice;
+        try {
+            if (keys == null) {
+                // 첫 페이지 (커서 조건 없는 쿼리)
+                if (sort == EventListSort.EVENT_DATE) {
+                    slice = trashed
+                            ? eventRepository.findTrashedByEventDate(username, pageable)
+                            : eventRepository.findActiveByEventDate(username, pageable);
+                } else {
+                    slice = trashed
+                            ? eventRepository.findTrashedByCreatedAt(username, pageable)
+                            : eventRepository.findActiveByCreatedAt(username, pageable);
+                }
+            } else if (sort == EventListSort.EVENT_DATE) {
+                LocalDate cursorEventDate = LocalDate.parse(keys[0]);
+                slice = trashed
+                        ? eventRepository.findTrashedByEventDateAfter(username, cursorEventDate, cursorId, pageable)
+                        : eventRepository.findActiveByEventDateAfter(username, cursorEventDate, cursorId, pageable);
+            } else {
+                LocalDateTime cursorCreatedAt = LocalDateTime.parse(keys[0]);
+                slice = trashed
+                        ? eventRepository.findTrashedByCreatedAtAfter(username, cursorCreatedAt, cursorId, pageable)
+                        : eventRepository.findActiveByCreatedAtAfter(username, cursorCreatedAt, cursorId, pageable);
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+
+        List<EventResponse> items = slice.getContent()
+                .stream()
+                .map(this::projectionToResponse)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            EventResponse last = items.get(items.size() - 1);
+            String sortKey = sort == EventListSort.EVENT_DATE
+                    ? last.getEventDate().toString()
+                    : last.getCreatedAt().toString();
+            nextCursor = PageCursor.encode(sortKey, String.valueOf(last.getId()));
+        }
+
+        return CursorPageResponse.of(items, nextCursor);
+    }
+
+    private Long parseCursorId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     // Projection을 EventResponse로 변환
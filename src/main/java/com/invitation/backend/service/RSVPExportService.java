@@ -0,0 +1,155 @@
+package com.invitation.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+// RSVP 내보내기 (전진 전용 커서로 읽은 행을 바로 응답에 기록, 전체 목록을 메모리에 올리지 않음)
+@Service
+public class RSVPExportService {
+
+    private static final String EXPORT_SQL =
+            "SELECT id, guest_name, attendance, companion_count, phone, email, message, created_at "
+                    + "FROM rsvps WHERE event_id = ? ORDER BY id";
+
+    private static final String[] COLUMNS =
+            {"id", "guestName", "attendance", "companionCount", "phone", "email", "message", "createdAt"};
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public RSVPExportService(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${rsvp.export.fetch-size:-2147483648}") int fetchSize
+    ) {
+        // MySQL은 fetchSize가 Integer.MIN_VALUE일 때 행 단위 스트리밍으로 읽는다
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+    }
+
+    public StreamingResponseBody export(Long eventId, ExportFormat format) {
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 16 * 1024);
+            if (format == ExportFormat.CSV) {
+                writeCsv(writer, eventId);
+            } else {
+                writeNdjson(writer, eventId);
+            }
+            writer.flush();
+        };
+    }
+
+    private void writeCsv(Writer writer, Long eventId) throws IOException {
+        // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write('\uFEFF');
+        writer.write(String.join(",", COLUMNS));
+        writer.write("\r\n");
+
+        streamingJdbcTemplate.query(EXPORT_SQL, (RowCallbackHandler) rs -> {
+            try {
+                writer.write(String.valueOf(rs.getLong("id")));
+                writer.write(',');
+                writer.write(csv(rs.getString("guest_name")));
+                writer.write(',');
+                writer.write(rs.getString("attendance"));
+                writer.write(',');
+                writer.write(String.valueOf(rs.getInt("companion_count")));
+                writer.write(',');
+                writer.write(csv(rs.getString("phone")));
+                writer.write(',');
+                writer.write(csv(rs.getString("email")));
+                writer.write(',');
+                writer.write(csv(rs.getString("message")));
+                writer.write(',');
+                writer.write(timestamp(rs));
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, eventId);
+    }
+
+    private void writeNdjson(Writer writer, Long eventId) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);  // 기본 구분자(공백) 대신 줄바꿈만 쓴다
+
+            streamingJdbcTemplate.query(EXPORT_SQL, (RowCallbackHandler) rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", rs.getLong("id"));
+                    generator.writeStringField("guestName", rs.getString("guest_name"));
+                    generator.writeStringField("attendance", rs.getString("attendance"));
+                    generator.writeNumberField("companionCount", rs.getInt("companion_count"));
+                    generator.writeStringField("phone", rs.getString("phone"));
+                    generator.writeStringField("email", rs.getString("email"));
+                    generator.writeStringField("message", rs.getString("message"));
+                    generator.writeStringField("createdAt", timestamp(rs));
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, eventId);
+        }
+    }
+
+    private static String timestamp(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return createdAt == null ? "" : createdAt.toLocalDateTime().toString();
+    }
+
+    // CSV 값 이스케이프 (스프레드시트 수식 실행 방지 포함)
+    private static String csv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum ExportFormat {
+        CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+        NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson"));
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.invitation.backend.service;
+
+import com.invitation.backend.domain.AttendanceType;
+import com.invitation.backend.dto.RSVPCreateRequest;
+import com.invitation.backend.dto.RSVPResponse;
+import com.invitation.backend.exception.RSVPQueueFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// RSVP 비동기 일괄 적재
+// 요청 스레드는 검증 후 대기열에 넣기만 하고, 단일 writer 스레드가 모아서 다중 행 INSERT로 커밋한다.
+@Slf4j
+@Service
+public class RSVPIngestService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO rsvps (event_id, guest_name, attendance, companion_count, phone, email, message, "
+                    + "ip_address, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<PendingRSVP> queue;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RSVPSummaryService rsvpSummaryService;
+
+    private final Timer commitTimer;
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public RSVPIngestService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            RSVPSummaryService rsvpSummaryService,
+            MeterRegistry meterRegistry,
+            @Value("${rsvp.ingest.async:false}") boolean enabled,
+            @Value("${rsvp.ingest.queue-capacity:10000}") int queueCapacity,
+            @Value("${rsvp.ingest.batch-size:200}") int batchSize,
+            @Value("${rsvp.ingest.linger-ms:20}") long lingerMillis
+    ) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rsvpSummaryService = rsvpSummaryService;
+
+        Gauge.builder("rsvp.ingest.queue.depth", queue, BlockingQueue::size)
+                .description("RSVP 적재 대기열 길이")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("rsvp.ingest.commit")
+                .description("RSVP 일괄 INSERT 커밋 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.acceptedCounter = meterRegistry.counter("rsvp.ingest.accepted");
+        this.rejectedCounter = meterRegistry.counter("rsvp.ingest.rejected");
+        this.failedCounter = meterRegistry.counter("rsvp.ingest.failed");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 대기열에 추가 (가득 차면 즉시 거절)
+    public RSVPResponse submit(Long eventId, RSVPCreateRequest request, String ipAddress) {
+        LocalDateTime now = LocalDateTime.now();
+        PendingRSVP pending = new PendingRSVP(
+                eventId,
+                request.getGuestName(),
+                request.getAttendance(),
+                request.getCompanionCount(),
+                request.getPhone(),
+                request.getEmail(),
+                request.getMessage(),
+                ipAddress,
+                now
+        );
+
+        if (!queue.offer(pending)) {
+            rejectedCounter.increment();
+            throw new RSVPQueueFullException();
+        }
+        acceptedCounter.increment();
+
+        return RSVPResponse.builder()
+                .guestName(request.getGuestName())
+                .attendance(request.getAttendance())
+                .companionCount(request.getCompanionCount())
+                .phone(request.getPhone())
+                .email(request.getEmail())
+                .message(request.getMessage())
+                .createdAt(now)
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "rsvp-ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("RSVP 비동기 적재 시작 - 배치 크기: {}, 대기열: {}", batchSize, queue.remainingCapacity());
+    }
+
+    // 종료 시 남은 대기열까지 모두 커밋
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private void drainLoop() {
+        List<PendingRSVP> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRSVP first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // linger 시간 동안 배치를 채운다
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingRSVP next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+            } catch (InterruptedException e) {
+                // 모으던 배치와 남은 대기열을 커밋한 뒤 종료
+                // (인터럽트 상태에서는 커넥션 풀에서 연결을 받지 못하므로 상태 복원은 커밋 이후에 한다)
+                queue.drainTo(batch);
+                writeRemaining(batch);
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                failedCounter.increment(batch.size());
+                log.error("RSVP 적재 중 오류 - 유실 건수: {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 중단 시 남은 건을 배치 크기 단위로 커밋
+    private void writeRemaining(List<PendingRSVP> rows) {
+        log.info("RSVP 적재 중단 - 남은 건 커밋: {}건", rows.size());
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<PendingRSVP> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            try {
+                write(chunk);
+            } catch (RuntimeException e) {
+                failedCounter.increment(chunk.size());
+                log.error("RSVP 적재 중 오류 - 유실 건수: {}", chunk.size(), e);
+            }
+        }
+    }
+
+    private void write(List<PendingRSVP> batch) {
+        try {
+            commitTimer.record(() -> insert(batch));
+        } catch (DataAccessException e) {
+            // 배치 전체 실패 시 한 건씩 다시 시도해 실패 원인 행만 걸러낸다
+            log.warn("RSVP 일괄 적재 실패, 개별 재시도 - 건수: {}, 오류: {}", batch.size(), e.getMessage());
+            int failed = 0;
+            for (PendingRSVP pending : batch) {
+                try {
+                    insert(List.of(pending));
+                } catch (DataAccessException single) {
+                    failed++;
+                    failedCounter.increment();
+                    log.error("RSVP 적재 실패 - eventId: {}, guestName: {}, createdAt: {}, 오류: {}",
+                            pending.getEventId(), pending.getGuestName(), pending.getCreatedAt(), single.getMessage());
+                }
+            }
+            if (failed > 0) {
+                log.error("RSVP 개별 재시도 후에도 실패 - {}건 중 {}건 유실", batch.size(), failed);
+            } else {
+                log.info("RSVP 개별 재시도 성공 - {}건", batch.size());
+            }
+        }
+    }
+
+    private void insert(List<PendingRSVP> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        Map<Long, RSVPSummaryService.Delta> deltas = new HashMap<>();
+        for (PendingRSVP row : rows) {
+            deltas.computeIfAbsent(row.getEventId(), id -> new RSVPSummaryService.Delta())
+                    .add(row.getAttendance(), row.getCompanionCount(), 1);
+
+            Timestamp createdAt = Timestamp.valueOf(row.getCreatedAt());
+            args.add(new Object[]{
+                    row.getEventId(),
+                    row.getGuestName(),
+                    row.getAttendance().name(),
+                    row.getCompanionCount(),
+                    row.getPhone(),
+                    row.getEmail(),
+                    row.getMessage(),
+                    row.getIpAddress(),
+                    createdAt,
+                    createdAt
+            });
+        }
+
+        // INSERT와 집계 반영을 같은 트랜잭션으로 커밋
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+            deltas.forEach(rsvpSummaryService::apply);
+        });
+    }
+
+    // 대기 중인 RSVP
+    @Getter
+    @AllArgsConstructor
+    static class PendingRSVP {
+        private final Long eventId;
+        private final String guestName;
+        private final AttendanceType attendance;
+        private final Integer companionCount;
+        private final String phone;
+        private final String email;
+        private final String message;
+        private final String ipAddress;
+        private final LocalDateTime createdAt;
+    }
+}
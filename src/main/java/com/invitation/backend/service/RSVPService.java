@@ -1,15 +1,22 @@
 package com.invitation.backend.service;
 
-import com.invitation.backend.domain.Event;
 import com.invitation.backend.domain.RSVP;
+import com.invitation.backend.dto.CursorPageResponse;
+import com.invitation.backend.dto.PageCursor;
 import com.invitation.backend.dto.RSVPCreateRequest;
+import com.invitation.backend.dto.RSVPListProjection;
 import com.invitation.backend.dto.RSVPResponse;
+import com.invitation.backend.dto.RSVPSummaryResponse;
 import com.invitation.backend.repository.EventRepository;
 import com.invitation.backend.repository.RSVPRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,27 +26,33 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RSVPService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final RSVPRepository rsvpRepository;
     private final EventRepository eventRepository;
+    private final EventService eventService;
+    private final RSVPIngestService rsvpIngestService;
+    private final RSVPSummaryService rsvpSummaryService;
+    private final RSVPExportService rsvpExportService;
+    private final DuplicateRSVPDetector duplicateRSVPDetector;
+    private final MeterRegistry meterRegistry;
 
     // 참석 응답 등록 (비회원 가능)
     @Transactional
     public RSVPResponse createRSVP(String shareLink, RSVPCreateRequest request, HttpServletRequest httpRequest) {
-        // 1. 공유 링크로 이벤트 조회
-        Event event = eventRepository.findByShareLink(shareLink)
-                .orElseThrow(() -> new IllegalArgumentException("초대장을 찾을 수 없습니다"));
-
-        // 2. 삭제된 이벤트 체크
-        if (event.getDeletedAt() != null) {
-            throw new IllegalArgumentException("삭제된 초대장입니다");
-        }
+        // 1. 공유 링크로 이벤트 확인 (캐시 사용, 삭제된 이벤트는 예외)
+        Long eventId = eventService.getEventIdByShareLink(shareLink);
 
-        // 3. IP 주소 추출
+        // 2. IP 주소 추출
         String ipAddress = getClientIp(httpRequest);
 
-        // 4. RSVP 생성
+        // 3. 중복 응답 확인 (메모리 필터 적중 시에만 DB 확인)
+        duplicateRSVPDetector.checkAndRecord(eventId, ipAddress, request.getGuestName());
+
+        // 4. RSVP 생성 (이벤트는 조회 없이 참조만 사용)
         RSVP rsvp = RSVP.builder()
-                .event(event)
+                .event(eventRepository.getReferenceById(eventId))
                 .guestName(request.getGuestName())
                 .attendance(request.getAttendance())
                 .companionCount(request.getCompanionCount())
@@ -51,23 +64,68 @@ public class RSVPService {
 
         RSVP savedRSVP = rsvpRepository.save(rsvp);
 
+        // 5. 집계 반영
+        rsvpSummaryService.apply(eventId, RSVPSummaryService.Delta.of(request.getAttendance(), request.getCompanionCount()));
+        meterRegistry.counter("rsvp.created", "attendance", request.getAttendance().name()).increment();
+
         return RSVPResponse.from(savedRSVP);
     }
 
-    // 이벤트의 RSVP 목록 조회 (작성자만)
-    public List<RSVPResponse> getRSVPList(String username, Long eventId) {
-        Event event = eventRepository.findByIdAndDeletedAtIsNull(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("초대장을 찾을 수 없습니다"));
+    // 비동기 적재 사용 여부
+    public boolean isAsyncIngest() {
+        return rsvpIngestService.isEnabled();
+    }
 
-        // 작성자 확인
-        if (!event.getUser().getUsername().equals(username)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다");
-        }
+    // 참석 응답 접수 (비동기 적재, 대기열이 가득 차면 RSVPQueueFullException)
+    // 대기열에 넣기만 하므로 클래스 기본값(읽기 전용 트랜잭션)으로 연결을 잡지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RSVPResponse enqueueRSVP(String shareLink, RSVPCreateRequest request, HttpServletRequest httpRequest) {
+        Long eventId = eventService.getEventIdByShareLink(shareLink);
+        String ipAddress = getClientIp(httpRequest);
+
+        duplicateRSVPDetector.checkAndRecord(eventId, ipAddress, request.getGuestName());
+
+        return rsvpIngestService.submit(eventId, request, ipAddress);
+    }
+
+    // 이벤트의 RSVP 목록 조회 (작성자만, 커서 기반 페이지)
+    public CursorPageResponse<RSVPResponse> getRSVPList(String username, Long eventId, String cursor, Integer size) {
+        // 작성자 확인 (이벤트 엔티티 로딩 없이 한 번에 확인)
+        checkOwner(username, eventId);
+
+        int pageSize = resolvePageSize(size);
+        long afterId = cursor == null ? 0L : PageCursor.decodeId(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<RSVPListProjection> rows = rsvpRepository.findByEventIdAndIdGreaterThanOrderByIdAsc(
+                eventId, afterId, Limit.of(pageSize + 1));
 
-        return rsvpRepository.findByEvent(event)
-                .stream()
+        List<RSVPResponse> items = rows.stream()
+                .limit(pageSize)
                 .map(RSVPResponse::from)
                 .collect(Collectors.toList());
+
+        String nextCursor = rows.size() > pageSize
+                ? PageCursor.encode(String.valueOf(items.get(items.size() - 1).getId()))
+                : null;
+
+        return CursorPageResponse.of(items, nextCursor);
+    }
+
+    // RSVP 내보내기 (작성자만, 권한 확인 후 스트리밍)
+    public StreamingResponseBody exportRSVPs(String username, Long eventId, RSVPExportService.ExportFormat format) {
+        // 작성자 확인 (이벤트 엔티티 로딩 없이 한 번에 확인)
+        checkOwner(username, eventId);
+
+        return rsvpExportService.export(eventId, format);
+    }
+
+    // RSVP 집계 조회 (작성자만)
+    public RSVPSummaryResponse getRSVPSummary(String username, Long eventId) {
+        // 작성자 확인 (이벤트 엔티티 로딩 없이 한 번에 확인)
+        checkOwner(username, eventId);
+
+        return rsvpSummaryService.getSummary(eventId);
     }
 
     // RSVP 수정
@@ -76,6 +134,12 @@ public class RSVPService {
         RSVP rsvp = rsvpRepository.findById(rsvpId)
                 .orElseThrow(() -> new IllegalArgumentException("응답을 찾을 수 없습니다"));
 
+        // 집계 반영 (이전 응답 차감 후 새 응답 가산)
+        RSVPSummaryService.Delta delta = new RSVPSummaryService.Delta()
+                .add(rsvp.getAttendance(), rsvp.getCompanionCount(), -1)
+                .add(request.getAttendance(), request.getCompanionCount(), 1);
+        rsvpSummaryService.apply(rsvp.getEvent().getId(), delta);
+
         rsvp.update(request.getAttendance(), request.getCompanionCount(), request.getMessage());
 
         return RSVPResponse.from(rsvp);
@@ -88,20 +152,33 @@ public class RSVPService {
                 .orElseThrow(() -> new IllegalArgumentException("응답을 찾을 수 없습니다"));
 
         rsvpRepository.delete(rsvp);
+
+        // 집계 반영
+        rsvpSummaryService.apply(rsvp.getEvent().getId(),
+                new RSVPSummaryService.Delta().add(rsvp.getAttendance(), rsvp.getCompanionCount(), -1));
     }
 
-    // 클라이언트 IP 추출
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
+    // 작성자 본인의 삭제되지 않은 이벤트인지 확인
+    private void checkOwner(String username, Long eventId) {
+        if (!eventRepository.existsByIdAndUserUsernameAndDeletedAtIsNull(eventId, username)) {
+            throw new IllegalArgumentException("초대장을 찾을 수 없거나 접근 권한이 없습니다");
         }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
         }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다");
         }
-        return ip;
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // 클라이언트 IP (요청 제한 필터와 같은 기준)
+    // 신뢰하는 프록시의 X-Forwarded-For는 Tomcat(server.forward-headers-strategy=native)이 접속 주소에 반영하므로
+    // 클라이언트가 보낸 헤더는 직접 읽지 않는다
+    private static String getClientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
     }
 }
\ No newline at end of file
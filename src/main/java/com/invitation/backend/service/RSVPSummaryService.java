@@ -0,0 +1,129 @@
+package com.invitation.backend.service;
+
+import com.invitation.backend.domain.AttendanceType;
+import com.invitation.backend.domain.EventRSVPSummary;
+import com.invitation.backend.dto.RSVPAggregateProjection;
+import com.invitation.backend.dto.RSVPSummaryResponse;
+import com.invitation.backend.repository.EventRSVPSummaryRepository;
+import com.invitation.backend.repository.RSVPRepository;
+import lombok.Getter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+
+@Service
+@Transactional(readOnly = true)
+public class RSVPSummaryService {
+
+    private final EventRSVPSummaryRepository summaryRepository;
+    private final RSVPRepository rsvpRepository;
+    private final TransactionTemplate reconcileTransaction;
+
+    public RSVPSummaryService(EventRSVPSummaryRepository summaryRepository,
+                              RSVPRepository rsvpRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.summaryRepository = summaryRepository;
+        this.rsvpRepository = rsvpRepository;
+        // 조회는 읽기 전용 트랜잭션(복제본)에서 하고, 집계 행 생성만 주 DB의 별도 쓰기 트랜잭션으로 처리
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 빈 집계 생성 (이벤트 생성 시)
+    @Transactional
+    public void initialize(Long eventId) {
+        summaryRepository.insertEmpty(eventId);
+    }
+
+    // 증분 반영 (호출한 쪽 트랜잭션에 참여)
+    @Transactional
+    public void apply(Long eventId, Delta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        int updated = summaryRepository.applyDelta(
+                eventId, delta.getAttending(), delta.getNotAttending(), delta.getCompanions());
+        if (updated == 0) {
+            // 집계 행이 없으면 이 트랜잭션에서 보이는 rsvps(방금 반영한 응답 포함)로 재계산해 만든다.
+            // 그 사이 다른 트랜잭션이 행을 만들었다면 그 재계산에는 아직 커밋 전인 이 응답이 빠져 있으므로 증분만 더한다.
+            Delta total = aggregate(eventId);
+            summaryRepository.insertOrApplyDelta(eventId,
+                    total.getAttending(), total.getNotAttending(), total.getCompanions(),
+                    delta.getAttending(), delta.getNotAttending(), delta.getCompanions());
+        }
+    }
+
+    // 집계 삭제 (이벤트 영구 삭제 시)
+    @Transactional
+    public void removeAll(Collection<Long> eventIds) {
+        summaryRepository.deleteAllByEventIds(eventIds);
+    }
+
+    // 집계 조회 (집계 행이 없는 기존 이벤트는 rsvps에서 한 번만 재계산)
+    // 호출한 쪽이 읽기 전용 트랜잭션이어도 재계산 결과 저장은 새 쓰기 트랜잭션에서 한다
+    public RSVPSummaryResponse getSummary(Long eventId) {
+        return summaryRepository.findById(eventId)
+                .map(RSVPSummaryResponse::from)
+                .orElseGet(() -> reconcileTransaction.execute(status -> reconcile(eventId)));
+    }
+
+    // 집계 행이 없을 때 rsvps로 재계산해 저장
+    // 재계산 이후 커밋되는 응답은 apply에서 행을 찾아 증분을 더하거나(이 INSERT가 먼저 커밋된 경우)
+    // 직접 행을 만들고 이 INSERT가 무시되므로(그쪽이 먼저인 경우) 누락된 채로 고정되지 않는다.
+    private RSVPSummaryResponse reconcile(Long eventId) {
+        Delta total = aggregate(eventId);
+
+        summaryRepository.insertIfAbsent(eventId, total.getAttending(), total.getNotAttending(), total.getCompanions());
+
+        return RSVPSummaryResponse.from(EventRSVPSummary.builder()
+                .eventId(eventId)
+                .attendingCount(total.getAttending())
+                .notAttendingCount(total.getNotAttending())
+                .companionCount(total.getCompanions())
+                .build());
+    }
+
+    private Delta aggregate(Long eventId) {
+        Delta total = new Delta();
+        for (RSVPAggregateProjection aggregate : rsvpRepository.aggregateByEventId(eventId)) {
+            if (aggregate.getAttendance() == AttendanceType.ATTENDING) {
+                total.attending += aggregate.getResponses();
+                total.companions += aggregate.getCompanions();
+            } else {
+                total.notAttending += aggregate.getResponses();
+            }
+        }
+        return total;
+    }
+
+    // 집계 변화량 (동반 인원은 참석 응답만 합산)
+    @Getter
+    public static class Delta {
+
+        private long attending;
+        private long notAttending;
+        private long companions;
+
+        public static Delta of(AttendanceType attendance, Integer companionCount) {
+            return new Delta().add(attendance, companionCount, 1);
+        }
+
+        public Delta add(AttendanceType attendance, Integer companionCount, int sign) {
+            if (attendance == AttendanceType.ATTENDING) {
+                attending += sign;
+                companions += (long) sign * (companionCount == null ? 0 : companionCount);
+            } else {
+                notAttending += sign;
+            }
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return attending == 0 && notAttending == 0 && companions == 0;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.invitation.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.invitation.backend.dto.EventResponse;
+import com.invitation.backend.dto.SharedEventPayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+// 공유 링크 조회 결과 캐시 (크기/TTL 제한, 직렬화된 본문 보관)
+@Component
+public class ShareLinkCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedEvent> cache;
+
+    // 조회수 반영 시 캐시 항목을 찾기 위한 이벤트 ID 색인
+    private final Map<Long, CachedEvent> cachedById = new ConcurrentHashMap<>();
+
+    public ShareLinkCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${share-link-cache.maximum-size:10000}") long maximumSize,
+            @Value("${share-link-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .evictionListener((String shareLink, CachedEvent cached, RemovalCause cause) -> {
+                    if (cached != null) {
+                        cachedById.remove(cached.getEventId(), cached);
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // 적중률/제거 수 등 (cache.* 지표, cache=share-link)
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "share-link");
+    }
+
+    // 캐시 조회 (없으면 loader로 적재, loader 예외는 그대로 전달되며 캐시되지 않음)
+    public CachedEvent get(String shareLink, Function<String, CachedEvent> loader) {
+        return cache.get(shareLink, key -> {
+            CachedEvent loaded = loader.apply(key);
+            cachedById.put(loaded.getEventId(), loaded);
+            return loaded;
+        });
+    }
+
+    // 캐시 무효화 (트랜잭션 중이면 커밋 이후에도 한 번 더 무효화)
+    public void evict(String shareLink) {
+        invalidate(shareLink);
+
+        // 커밋 전에 다른 요청이 이전 상태를 다시 적재하는 경우를 막는다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(shareLink);
+                }
+            });
+        }
+    }
+
+    // DB에 반영된 조회수를 캐시 항목에 누적
+    public void applyFlushedViews(Long eventId, long delta) {
+        CachedEvent cached = cachedById.get(eventId);
+        if (cached != null) {
+            cached.persistedViewCount.addAndGet(delta);
+        }
+    }
+
+    // 적중/실패/제거 통계
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void invalidate(String shareLink) {
+        CachedEvent removed = cache.asMap().remove(shareLink);
+        if (removed != null) {
+            cachedById.remove(removed.getEventId(), removed);
+        }
+    }
+
+    // 응답을 캐시 항목으로 변환 (viewCount를 제외하고 미리 직렬화 및 압축)
+    public CachedEvent toCachedEvent(EventResponse response, LocalDateTime version) {
+        try {
+            ObjectNode node = objectMapper.valueToTree(response);
+            node.remove("viewCount");
+            byte[] json = objectMapper.writeValueAsBytes(node);
+            byte[] gzipJson = gzip(json);
+
+            // 이벤트 ID와 수정 시각으로 버전 식별
+            String etag = Long.toHexString(response.getId()) + "-"
+                    + Long.toHexString(version.toEpochSecond(ZoneOffset.UTC)) + "."
+                    + Integer.toHexString(version.getNano());
+
+            return new CachedEvent(
+                    response.getId(),
+                    etag,
+                    json,
+                    gzipJson.length < json.length ? gzipJson : null,
+                    response.getViewCount()
+            );
+        } catch (IOException e) {
+            throw new IllegalStateException("공유 링크 응답 직렬화 실패", e);
+        }
+    }
+
+    private byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    // 캐시 항목 (조회수는 DB 반영분만 보관, 미반영분은 응답 시 합산)
+    public static class CachedEvent {
+
+        @Getter
+        private final Long eventId;
+        private final String etag;
+        private final byte[] json;
+        private final byte[] gzipJson;
+        private final AtomicLong persistedViewCount;
+
+        private CachedEvent(Long eventId, String etag, byte[] json, byte[] gzipJson, long viewCount) {
+            this.eventId = eventId;
+            this.etag = etag;
+            this.json = json;
+            this.gzipJson = gzipJson;
+            this.persistedViewCount = new AtomicLong(viewCount);
+        }
+
+        public SharedEventPayload toPayload(long pendingViewCount) {
+            return new SharedEventPayload(etag, json, gzipJson, persistedViewCount.get() + pendingViewCount);
+        }
+    }
+}
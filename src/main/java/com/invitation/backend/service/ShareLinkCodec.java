@@ -0,0 +1,86 @@
+package com.invitation.backend.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// 일련번호 -> 공유 링크 변환기
+// 46비트 Feistel 치환(키 기반)으로 순서를 감춘 뒤 고정 8자리 base62로 인코딩한다.
+// 치환은 전단사이므로 일련번호가 겹치지 않는 한 링크도 겹치지 않는다.
+public class ShareLinkCodec {
+
+    public static final int LENGTH = 8;
+
+    private static final int HALF_BITS = 23;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    // 표현 가능한 일련번호 범위 (2^46)
+    public static final long MAX_SEQUENCE = 1L << (HALF_BITS * 2);
+
+    private static final char[] ALPHABET =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    // 첫 글자는 대문자로 고정해 기존 UUID 기반(소문자 hex) 링크와 겹치지 않게 한다
+    private static final char[] LEADING = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    // 첫 글자를 제외한 7자리 base62 범위 (62^7)
+    private static final long TAIL_RANGE = 3_521_614_606_208L;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public ShareLinkCodec(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("공유 링크 키가 설정되지 않았습니다");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            for (int i = 0; i < ROUNDS; i++) {
+                roundKeys[i] = buffer.getLong();
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String encode(long sequence) {
+        if (sequence < 0 || sequence >= MAX_SEQUENCE) {
+            throw new IllegalArgumentException("공유 링크 일련번호 범위를 벗어났습니다: " + sequence);
+        }
+        return toBase62(permute(sequence));
+    }
+
+    // Feistel 치환 (46비트 -> 46비트 전단사)
+    long permute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (int i = 0; i < ROUNDS; i++) {
+            long next = left ^ round(right, roundKeys[i]);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    // 라운드 함수 (splitmix64 finalizer)
+    private static long round(long half, long key) {
+        long x = half ^ key;
+        x = (x ^ (x >>> 33)) * 0xff51afd7ed558ccdL;
+        x = (x ^ (x >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x & HALF_MASK;
+    }
+
+    private static String toBase62(long value) {
+        char[] chars = new char[LENGTH];
+        chars[0] = LEADING[(int) (value / TAIL_RANGE)];
+        long tail = value % TAIL_RANGE;
+        for (int i = LENGTH - 1; i >= 1; i--) {
+            chars[i] = ALPHABET[(int) (tail % ALPHABET.length)];
+            tail /= ALPHABET.length;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,97 @@
+package com.invitation.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 공유 링크 생성기
+// 일련번호를 블록 단위로 미리 할당받아 생성 시 DB 조회 없이 고유한 링크를 만든다.
+@Slf4j
+@Component
+public class ShareLinkGenerator {
+
+    private static final String SEQUENCE_NAME = "share_link";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShareLinkCodec codec;
+    private final int blockSize;
+
+    // 현재 블록의 다음 번호와 끝 (lock으로 보호)
+    // 블록 할당 중 DB I/O를 하므로 synchronized 대신 ReentrantLock을 써서 가상 스레드가 캐리어에 고정되지 않게 한다
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    public ShareLinkGenerator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${share-link.key}") String key,
+            @Value("${share-link.block-size:1000}") int blockSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.codec = new ShareLinkCodec(key);
+        this.blockSize = blockSize;
+    }
+
+    // 고유 공유 링크 생성
+    public String generate() {
+        long sequence;
+        lock.lock();
+        try {
+            if (next >= limit) {
+                next = allocateBlock();
+                limit = next + blockSize;
+            }
+            sequence = next++;
+        } finally {
+            lock.unlock();
+        }
+        return codec.encode(sequence);
+    }
+
+    // 일련번호 블록 할당
+    private long allocateBlock() {
+        try {
+            return allocateBlockOnce();
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 시퀀스 행을 만든 경우 다시 시도
+            return allocateBlockOnce();
+        }
+    }
+
+    // 별도 트랜잭션으로 즉시 커밋해 블록 할당 중 행 잠금을 짧게 유지한다
+    private long allocateBlockOnce() {
+        Long start = transactionTemplate.execute(status -> {
+            List<Long> current = jdbcTemplate.queryForList(
+                    "SELECT next_value FROM share_link_sequences WHERE name = ? FOR UPDATE",
+                    Long.class, SEQUENCE_NAME);
+
+            if (current.isEmpty()) {
+                jdbcTemplate.update(
+                        "INSERT INTO share_link_sequences (name, next_value) VALUES (?, ?)",
+                        SEQUENCE_NAME, (long) blockSize);
+                return 0L;
+            }
+
+            long value = current.get(0);
+            jdbcTemplate.update(
+                    "UPDATE share_link_sequences SET next_value = ? WHERE name = ?",
+                    value + blockSize, SEQUENCE_NAME);
+            return value;
+        });
+
+        log.debug("공유 링크 일련번호 블록 할당 - 시작: {}, 크기: {}", start, blockSize);
+        return start;
+    }
+}
@@ -0,0 +1,173 @@
+package com.invitation.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 휴지통 자동 비우기
+// 보관 기간이 지난 초대장과 RSVP를 작은 단위로 나눠 커밋하고, 초당 삭제 행 수를 제한해 긴 락과 복제 지연을 피한다.
+@Slf4j
+@Component
+public class TrashPurgeJob {
+
+    private static final String SELECT_EXPIRED_SQL =
+            "SELECT id FROM events WHERE deleted_at < :cutoff ORDER BY deleted_at LIMIT :limit";
+
+    // 정리 도중 복원된 초대장은 건드리지 않도록 매 문장마다 삭제 조건을 다시 확인한다
+    private static final String STILL_EXPIRED =
+            "SELECT id FROM events WHERE id IN (:ids) AND deleted_at < :cutoff";
+
+    private static final String DELETE_RSVPS_SQL =
+            "DELETE FROM rsvps WHERE event_id IN (" + STILL_EXPIRED + ") LIMIT :limit";
+
+    private static final String DELETE_SUMMARIES_SQL =
+            "DELETE FROM event_rsvp_summaries WHERE event_id IN (" + STILL_EXPIRED + ")";
+
+    private static final String DELETE_EVENTS_SQL =
+            "DELETE FROM events WHERE id IN (:ids) AND deleted_at < :cutoff";
+
+    private static final String OLDEST_DELETED_SQL =
+            "SELECT MIN(deleted_at) FROM events WHERE deleted_at IS NOT NULL";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int chunkSize;
+    private final long nanosPerRow;
+
+    private final Counter purgedEvents;
+    private final Counter purgedRsvps;
+    // 보관 기간을 넘기고도 남아 있는 가장 오래된 초대장의 초과 시간 (초)
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public TrashPurgeJob(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${trash-purge.enabled:true}") boolean enabled,
+            @Value("${trash-purge.retention-days:30}") long retentionDays,
+            @Value("${trash-purge.chunk-size:100}") int chunkSize,
+            @Value("${trash-purge.rows-per-second:2000}") int rowsPerSecond
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = chunkSize;
+        this.nanosPerRow = TimeUnit.SECONDS.toNanos(1) / Math.max(rowsPerSecond, 1);
+
+        this.purgedEvents = Counter.builder("trash.purge.rows")
+                .tag("table", "events")
+                .description("휴지통 정리로 삭제된 행 수")
+                .register(meterRegistry);
+        this.purgedRsvps = Counter.builder("trash.purge.rows")
+                .tag("table", "rsvps")
+                .description("휴지통 정리로 삭제된 행 수")
+                .register(meterRegistry);
+        Gauge.builder("trash.purge.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .description("보관 기간이 지났지만 아직 정리되지 않은 초대장의 최대 초과 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${trash-purge.initial-delay-ms:60000}",
+            fixedDelayString = "${trash-purge.interval-ms:600000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        Throttle throttle = new Throttle(nanosPerRow);
+        long events = 0;
+        long rsvps = 0;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Long> ids = jdbcTemplate.queryForList(SELECT_EXPIRED_SQL,
+                        new MapSqlParameterSource("cutoff", cutoff).addValue("limit", chunkSize), Long.class);
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                        .addValue("cutoff", cutoff)
+                        .addValue("limit", chunkSize);
+
+                // RSVP가 많은 초대장도 한 문장이 오래 걸리지 않도록 나눠서 삭제 (문장마다 자동 커밋)
+                int deleted;
+                do {
+                    deleted = jdbcTemplate.update(DELETE_RSVPS_SQL, params);
+                    rsvps += deleted;
+                    purgedRsvps.increment(deleted);
+                    throttle.acquire(deleted);
+                } while (deleted > 0);
+
+                jdbcTemplate.update(DELETE_SUMMARIES_SQL, params);
+                deleted = jdbcTemplate.update(DELETE_EVENTS_SQL, params);
+                events += deleted;
+                purgedEvents.increment(deleted);
+                throttle.acquire(deleted);
+
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException e) {
+            // 남은 행은 다음 주기에 다시 시도된다
+            log.warn("휴지통 정리 실패, 다음 주기에 재시도합니다. 오류: {}", e.getMessage());
+        }
+
+        updateLag(cutoff);
+
+        if (events > 0 || rsvps > 0) {
+            log.info("휴지통 정리 완료 - 초대장: {}, RSVP: {}", events, rsvps);
+        }
+    }
+
+    private void updateLag(Timestamp cutoff) {
+        try {
+            Timestamp oldest = jdbcTemplate.getJdbcTemplate().queryForObject(OLDEST_DELETED_SQL, Timestamp.class);
+            long lag = oldest == null ? 0 : (cutoff.getTime() - oldest.getTime()) / 1000;
+            lagSeconds.set(Math.max(lag, 0));
+        } catch (DataAccessException e) {
+            log.debug("휴지통 정리 지연 측정 실패: {}", e.getMessage());
+        }
+    }
+
+    // 초당 삭제 행 수 제한 (삭제한 행 수만큼 다음 실행 시점을 뒤로 민다)
+    private static class Throttle {
+
+        private final long nanosPerRow;
+        private long next = System.nanoTime();
+
+        Throttle(long nanosPerRow) {
+            this.nanosPerRow = nanosPerRow;
+        }
+
+        void acquire(int rows) throws InterruptedException {
+            if (rows <= 0) {
+                return;
+            }
+            next = Math.max(next, System.nanoTime()) + rows * nanosPerRow;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.invitation.backend.service;
+
+import com.invitation.backend.domain.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// 사용자 변경 시 인증 사용자 캐시 무효화
+@Component
+public class UserCacheInvalidationListener {
+
+    private final ObjectProvider<CustomUserDetailsService> userDetailsService;
+
+    public UserCacheInvalidationListener(ObjectProvider<CustomUserDetailsService> userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        userDetailsService.ifAvailable(service -> service.evict(user.getUsername()));
+    }
+}
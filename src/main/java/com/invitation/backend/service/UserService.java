@@ -58,7 +58,7 @@ public class UserService {
         }
 
         // 3. JWT 토큰 생성
-        String token = jwtTokenProvider.generateToken(user.getUsername());
+        String token = jwtTokenProvider.generateToken(user.getUsername(), user.getId());
 
         // 4. 응답 반환
         return LoginResponse.of(token, UserResponse.from(user));
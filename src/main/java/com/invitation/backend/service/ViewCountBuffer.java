@@ -0,0 +1,126 @@
+package com.invitation.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 공유 링크 조회수 쓰기 지연 버퍼
+// 조회마다 events 행을 갱신하지 않고 메모리에 적립한 뒤 주기적으로 일괄 반영한다.
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE events SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShareLinkCache shareLinkCache;
+    private final int batchSize;
+
+    // 이벤트 ID별 아직 DB에 반영되지 않은 조회수
+    // 증가와 차감/정리를 모두 맵의 원자 연산으로 처리해, 정리 중인 항목에 들어온 증가분이 유실되지 않게 한다
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    private final Counter viewCounter;
+    private final Counter flushedCounter;
+    private final Counter failureCounter;
+    private final Timer flushTimer;
+
+    public ViewCountBuffer(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ShareLinkCache shareLinkCache,
+            MeterRegistry meterRegistry,
+            @Value("${view-count.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shareLinkCache = shareLinkCache;
+        this.batchSize = batchSize;
+
+        this.viewCounter = meterRegistry.counter("view_count.increments");
+        this.flushedCounter = meterRegistry.counter("view_count.flushed");
+        this.failureCounter = meterRegistry.counter("view_count.flush.failures");
+        this.flushTimer = Timer.builder("view_count.flush")
+                .description("적립된 조회수 일괄 반영 시간")
+                .register(meterRegistry);
+        Gauge.builder("view_count.pending.events", pending, Map::size)
+                .description("반영 대기 중인 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    // 조회수 1 증가 (DB 접근 없음)
+    public void increment(Long eventId) {
+        pending.merge(eventId, 1L, Long::sum);
+        viewCounter.increment();
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPending(Long eventId) {
+        return pending.getOrDefault(eventId, 0L);
+    }
+
+    // 적립된 조회수를 DB에 일괄 반영
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+    public void flush() {
+        flushTimer.record(this::flushPending);
+    }
+
+    private void flushPending() {
+        // ID 순으로 정렬해 여러 인스턴스가 동시에 반영할 때 락 순서를 맞춘다
+        Map<Long, Long> snapshot = new TreeMap<>(pending);
+
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        List<Long> eventIds = new ArrayList<>(snapshot.keySet());
+
+        for (int from = 0; from < eventIds.size(); from += batchSize) {
+            List<Long> chunk = eventIds.subList(from, Math.min(from + batchSize, eventIds.size()));
+            List<Object[]> args = new ArrayList<>(chunk.size());
+            chunk.forEach(eventId -> args.add(new Object[]{snapshot.get(eventId), eventId}));
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, args));
+            } catch (DataAccessException e) {
+                // 반영되지 않은 값은 버퍼에 남아 다음 주기에 다시 시도된다
+                log.warn("조회수 반영 실패, 다음 주기에 재시도합니다. 오류: {}", e.getMessage());
+                failureCounter.increment();
+                return;
+            }
+
+            // 반영한 만큼만 차감 (반영 도중 증가한 값은 유지, 모두 반영된 항목은 같은 연산에서 제거)
+            chunk.forEach(eventId -> {
+                long delta = snapshot.get(eventId);
+                shareLinkCache.applyFlushedViews(eventId, delta);
+                pending.computeIfPresent(eventId, (id, count) -> count == delta ? null : count - delta);
+                flushedCounter.increment(delta);
+            });
+        }
+
+        log.debug("조회수 반영 완료 - 이벤트 수: {}", snapshot.size());
+    }
+
+    // 종료 전 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
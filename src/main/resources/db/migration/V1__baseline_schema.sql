@@ -0,0 +1,53 @@
+-- 기준 스키마 (ddl-auto: update로 만들어진 최초 스키마와 동일)
+-- 이미 운영 중인 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 보고 V2부터 실행한다
+
+CREATE TABLE users (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    username    VARCHAR(50)  NOT NULL,
+    password    VARCHAR(100) NOT NULL,
+    name        VARCHAR(50)  NOT NULL,
+    birth_date  DATE         NOT NULL,
+    provider    ENUM ('GENERAL', 'KAKAO') NOT NULL,
+    provider_id VARCHAR(100),
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE events (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT       NOT NULL,
+    title          VARCHAR(100) NOT NULL,
+    event_date     DATE         NOT NULL,
+    event_time     TIME         NOT NULL,
+    location       VARCHAR(200),
+    location_lat   DOUBLE,
+    location_lng   DOUBLE,
+    template_type  VARCHAR(50),
+    custom_content TEXT,
+    share_link     VARCHAR(100),
+    view_count     BIGINT       NOT NULL,
+    deleted_at     DATETIME(6),
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_events_share_link UNIQUE (share_link),
+    CONSTRAINT fk_events_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE rsvps (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    event_id        BIGINT      NOT NULL,
+    guest_name      VARCHAR(50) NOT NULL,
+    attendance      ENUM ('ATTENDING', 'NOT_ATTENDING') NOT NULL,
+    companion_count INT         NOT NULL,
+    phone           VARCHAR(20),
+    email           VARCHAR(100),
+    message         VARCHAR(500),
+    ip_address      VARCHAR(45),
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_rsvps_event FOREIGN KEY (event_id) REFERENCES events (id)
+) ENGINE = InnoDB;
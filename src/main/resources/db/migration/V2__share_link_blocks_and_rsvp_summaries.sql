@@ -0,0 +1,30 @@
+-- 공유 링크: 고정 8자리, 대소문자 구분 비교
+-- 기존 링크는 8자리 소문자 16진수라 그대로 변환된다
+ALTER TABLE events
+    MODIFY share_link CHAR(8) CHARACTER SET ascii COLLATE ascii_bin NULL;
+
+-- 공유 링크 일련번호 블록 할당
+CREATE TABLE IF NOT EXISTS share_link_sequences (
+    name       VARCHAR(50) NOT NULL,
+    next_value BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- 이벤트별 RSVP 집계
+CREATE TABLE IF NOT EXISTS event_rsvp_summaries (
+    event_id            BIGINT NOT NULL,
+    attending_count     BIGINT NOT NULL,
+    not_attending_count BIGINT NOT NULL,
+    companion_count     BIGINT NOT NULL,
+    PRIMARY KEY (event_id)
+) ENGINE = InnoDB;
+
+-- 기존 이벤트 집계 채우기 (이미 있는 행은 유지)
+INSERT IGNORE INTO event_rsvp_summaries (event_id, attending_count, not_attending_count, companion_count)
+SELECT e.id,
+       COALESCE(SUM(r.attendance = 'ATTENDING'), 0),
+       COALESCE(SUM(r.attendance = 'NOT_ATTENDING'), 0),
+       COALESCE(SUM(CASE WHEN r.attendance = 'ATTENDING' THEN r.companion_count ELSE 0 END), 0)
+FROM events e
+         LEFT JOIN rsvps r ON r.event_id = e.id
+GROUP BY e.id;
@@ -0,0 +1,15 @@
+-- 조회 패턴별 인덱스
+-- FK용으로 자동 생성된 user_id, event_id 단일 인덱스는 아래 복합 인덱스가 대신한다
+
+-- 내 초대장/휴지통 목록: user_id, deleted_at 동등 조건 + 정렬 키 + id 키셋
+CREATE INDEX idx_events_user_deleted_created ON events (user_id, deleted_at, created_at, id);
+CREATE INDEX idx_events_user_deleted_event_date ON events (user_id, deleted_at, event_date, id);
+
+-- 휴지통 자동 정리: deleted_at 범위 조회 (보조 인덱스에 PK가 포함되어 id 조회는 커버링)
+CREATE INDEX idx_events_deleted_at ON events (deleted_at);
+
+-- RSVP 키셋 페이지, 내보내기, 일괄 삭제: event_id 동등 조건 + id 순서
+CREATE INDEX idx_rsvps_event_id_id ON rsvps (event_id, id);
+
+-- 중복 응답 확인: 조건 컬럼을 모두 포함해 테이블 접근 없이 판정
+CREATE INDEX idx_rsvps_event_ip_guest ON rsvps (event_id, ip_address, guest_name, created_at);
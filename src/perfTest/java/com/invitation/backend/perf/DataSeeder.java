@@ -0,0 +1,134 @@
+package com.invitation.backend.perf;
+
+import com.invitation.backend.config.JwtTokenProvider;
+import com.invitation.backend.service.ShareLinkGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 부하 테스트 데이터 적재 (JDBC 일괄 INSERT)
+@Slf4j
+public class DataSeeder {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ShareLinkGenerator shareLinkGenerator;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PerfSettings settings;
+
+    public DataSeeder(ApplicationContext context, PerfSettings settings) {
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.shareLinkGenerator = context.getBean(ShareLinkGenerator.class);
+        this.jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+        this.settings = settings;
+    }
+
+    public SeedData seed() {
+        long started = System.currentTimeMillis();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 1. 사용자
+        String password = passwordEncoder.encode("perf-password");
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < settings.getUsers(); i++) {
+            users.add(new Object[]{"perf-user-" + i, password, "사용자" + i, Date.valueOf(LocalDate.of(1990, 1, 1)), "GENERAL", now, now});
+        }
+        batch("INSERT INTO users (username, password, name, birth_date, provider, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+
+        Map<Long, String> usernames = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT id, username FROM users WHERE username LIKE 'perf-user-%' ORDER BY id",
+                rs -> {
+                    usernames.put(rs.getLong("id"), rs.getString("username"));
+                });
+
+        // 2. 초대장
+        List<Object[]> events = new ArrayList<>();
+        Date eventDate = Date.valueOf(LocalDate.now().plusMonths(1));
+        Time eventTime = Time.valueOf(LocalTime.NOON);
+        for (Long userId : usernames.keySet()) {
+            for (int i = 0; i < settings.getEventsPerUser(); i++) {
+                events.add(new Object[]{userId, "부하 테스트 초대장 " + i, eventDate, eventTime, "서울",
+                        shareLinkGenerator.generate(), now, now});
+            }
+        }
+        batch("INSERT INTO events (user_id, title, event_date, event_time, location, share_link, view_count, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)", events);
+
+        Map<Long, List<Long>> eventsByUser = new LinkedHashMap<>();
+        List<Long> eventIds = new ArrayList<>();
+        List<String> shareLinks = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, user_id, share_link FROM events ORDER BY id", rs -> {
+            eventsByUser.computeIfAbsent(rs.getLong("user_id"), id -> new ArrayList<>()).add(rs.getLong("id"));
+            eventIds.add(rs.getLong("id"));
+            shareLinks.add(rs.getString("share_link"));
+        });
+
+        // 3. RSVP와 집계
+        List<Object[]> rsvps = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> summaries = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            long attending = 0;
+            long notAttending = 0;
+            long companions = 0;
+            for (int i = 0; i < settings.getRsvpsPerEvent(); i++) {
+                boolean attend = i % 3 != 2;
+                int companionCount = attend ? i % 3 : 0;
+                if (attend) {
+                    attending++;
+                    companions += companionCount;
+                } else {
+                    notAttending++;
+                }
+                rsvps.add(new Object[]{eventId, "하객" + i, attend ? "ATTENDING" : "NOT_ATTENDING", companionCount,
+                        "10.0." + (i / 256 % 256) + "." + (i % 256), now, now});
+                if (rsvps.size() == BATCH_SIZE) {
+                    insertRsvps(rsvps);
+                    rsvps.clear();
+                }
+            }
+            summaries.add(new Object[]{eventId, attending, notAttending, companions});
+        }
+        insertRsvps(rsvps);
+        batch("INSERT INTO event_rsvp_summaries (event_id, attending_count, not_attending_count, companion_count) "
+                + "VALUES (?, ?, ?, ?)", summaries);
+
+        // 4. 작성자 토큰
+        List<SeedData.Owner> owners = new ArrayList<>();
+        usernames.forEach((userId, username) -> owners.add(new SeedData.Owner(
+                jwtTokenProvider.generateToken(username, userId),
+                eventsByUser.getOrDefault(userId, List.of()))));
+
+        log.warn("데이터 적재 완료 - 사용자: {}, 초대장: {}, RSVP: {}, 소요: {}ms",
+                usernames.size(), eventIds.size(), (long) eventIds.size() * settings.getRsvpsPerEvent(),
+                System.currentTimeMillis() - started);
+
+        return new SeedData(owners, shareLinks);
+    }
+
+    private void insertRsvps(List<Object[]> rows) {
+        batch("INSERT INTO rsvps (event_id, guest_name, attendance, companion_count, ip_address, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.invitation.backend.perf;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 부하 대상 엔드포인트
+@Getter
+@AllArgsConstructor
+public enum Endpoint {
+    SHARE("share", "GET /api/events/share/{shareLink}"),
+    RSVP("rsvp", "POST /api/events/share/{shareLink}/rsvp"),
+    LIST("list", "GET /api/events"),
+    DETAIL("detail", "GET /api/events/{eventId}");
+
+    private final String key;
+    private final String description;
+
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 엔드포인트: " + key);
+    }
+}
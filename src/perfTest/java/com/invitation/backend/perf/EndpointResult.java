@@ -0,0 +1,32 @@
+package com.invitation.backend.perf;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+// 엔드포인트별 측정 결과 (지연 시간은 마이크로초)
+@Getter
+@AllArgsConstructor
+public class EndpointResult {
+
+    private final Endpoint endpoint;
+    private final Histogram latency;
+    private final long errors;
+    private final double seconds;
+
+    public long getRequests() {
+        return latency.getTotalCount() + errors;
+    }
+
+    public double getThroughput() {
+        return getRequests() / seconds;
+    }
+
+    public double getErrorRate() {
+        return getRequests() == 0 ? 0 : (double) errors / getRequests();
+    }
+
+    public double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,156 @@
+package com.invitation.backend.perf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 혼합 부하 생성 (closed-loop: 작업자마다 응답을 받은 뒤 다음 요청)
+@Slf4j
+public class LoadDriver {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String baseUrl;
+    private final SeedData seed;
+    private final PerfSettings settings;
+    private final HttpClient client;
+    private final Endpoint[] weighted;
+    private final AtomicLong guestSequence = new AtomicLong();
+
+    public LoadDriver(String baseUrl, SeedData seed, PerfSettings settings) {
+        this.baseUrl = baseUrl;
+        this.seed = seed;
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // 가중치만큼 반복한 배열에서 무작위로 고른다
+        List<Endpoint> slots = new ArrayList<>();
+        settings.getMix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(endpoint);
+            }
+        });
+        this.weighted = slots.toArray(new Endpoint[0]);
+    }
+
+    public List<EndpointResult> run() throws Exception {
+        log.warn("워밍업 {}초", settings.getWarmupSeconds());
+        drive(settings.getWarmupSeconds());
+
+        log.warn("측정 {}초 (동시 {})", settings.getDurationSeconds(), settings.getConcurrency());
+        return drive(settings.getDurationSeconds());
+    }
+
+    private List<EndpointResult> drive(int seconds) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(settings.getConcurrency());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long started = System.nanoTime();
+
+        List<Future<Recorder>> futures = new ArrayList<>();
+        for (int i = 0; i < settings.getConcurrency(); i++) {
+            futures.add(workers.submit(() -> work(deadline)));
+        }
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> future : futures) {
+            total.add(future.get());
+        }
+        workers.shutdown();
+
+        double elapsed = (System.nanoTime() - started) / 1e9;
+        List<EndpointResult> results = new ArrayList<>();
+        total.latency.forEach((endpoint, histogram) -> results.add(
+                new EndpointResult(endpoint, histogram, total.errors.get(endpoint)[0], elapsed)));
+        return results;
+    }
+
+    private Recorder work(long deadline) {
+        Recorder recorder = new Recorder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = weighted[random.nextInt(weighted.length)];
+            HttpRequest request = buildRequest(endpoint, random);
+
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+            if (ok) {
+                recorder.latency.get(endpoint).recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+            } else {
+                recorder.errors.get(endpoint)[0]++;
+            }
+        }
+        return recorder;
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint, ThreadLocalRandom random) {
+        List<String> links = seed.getShareLinks();
+        SeedData.Owner owner = seed.getOwners().get(random.nextInt(seed.getOwners().size()));
+
+        return switch (endpoint) {
+            case SHARE -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/events/share/"
+                            + links.get(random.nextInt(links.size()))))
+                    .header("Accept-Encoding", "gzip")
+                    .GET().build();
+            case RSVP -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/events/share/"
+                            + links.get(random.nextInt(links.size())) + "/rsvp"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"guestName\":\"부하하객" + guestSequence.incrementAndGet()
+                                    + "\",\"attendance\":\"ATTENDING\",\"companionCount\":1}"))
+                    .build();
+            case LIST -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/events?size=20"))
+                    .header("Authorization", "Bearer " + owner.getToken())
+                    .GET().build();
+            case DETAIL -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/events/"
+                            + owner.getEventIds().get(random.nextInt(owner.getEventIds().size()))))
+                    .header("Authorization", "Bearer " + owner.getToken())
+                    .GET().build();
+        };
+    }
+
+    // 작업자별 기록 (작업자 간 공유하지 않아 동기화 없음)
+    private static class Recorder {
+
+        private final Map<Endpoint, Histogram> latency = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, long[]> errors = new EnumMap<>(Endpoint.class);
+
+        Recorder() {
+            for (Endpoint endpoint : Endpoint.values()) {
+                latency.put(endpoint, new Histogram(MAX_LATENCY_MICROS, 3));
+                errors.put(endpoint, new long[1]);
+            }
+        }
+
+        void add(Recorder other) {
+            other.latency.forEach((endpoint, histogram) -> latency.get(endpoint).add(histogram));
+            other.errors.forEach((endpoint, count) -> errors.get(endpoint)[0] += count[0]);
+        }
+    }
+}
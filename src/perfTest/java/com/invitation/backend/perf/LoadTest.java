@@ -0,0 +1,97 @@
+package com.invitation.backend.perf;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.invitation.backend.InvitationBackendApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+// 부하 테스트 진입점
+// 1. 내장 MariaDB 기동  2. 앱 기동 (임의 포트)  3. 데이터 적재  4. 혼합 부하  5. 보고 및 임계값 확인
+//
+// 설정 (-Pperf.xxx=값)
+//   users, eventsPerUser, rsvpsPerEvent       적재량 (기본 50 / 20 / 50)
+//   concurrency, warmupSeconds, durationSeconds  부하 (기본 64 / 10 / 30)
+//   mix                                        가중치 (기본 share:70,rsvp:15,list:10,detail:5)
+//   threshold.<endpoint>.p99Ms, threshold.<endpoint>.p999Ms  지연 시간 상한
+//   maxErrorRate                               오류율 상한 (기본 0.01)
+@Slf4j
+public class LoadTest {
+
+    private static final String DATABASE = "invitation_perf";
+
+    public static void main(String[] args) throws Exception {
+        PerfSettings settings = PerfSettings.fromSystemProperties();
+
+        DBConfigurationBuilder dbConfig = DBConfigurationBuilder.newBuilder();
+        dbConfig.setPort(0);  // 빈 포트 자동 선택
+        dbConfig.addArg("--character-set-server=utf8mb4");
+        dbConfig.addArg("--collation-server=utf8mb4_unicode_ci");
+        if ("root".equals(System.getProperty("user.name"))) {
+            dbConfig.addArg("--user=root");  // 컨테이너에서는 root로 실행된다
+        }
+        DBConfiguration config = dbConfig.build();
+        DB db = DB.newEmbeddedDB(config);
+        db.start();
+        createDatabase(config.getPort(), DATABASE);
+
+        int exitCode;
+        ConfigurableApplicationContext context = null;
+        try {
+            context = SpringApplication.run(InvitationBackendApplication.class, applicationArgs(config.getPort()));
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+
+            SeedData seed = new DataSeeder(context, settings).seed();
+            List<EndpointResult> results = new LoadDriver("http://localhost:" + port, seed, settings).run();
+
+            PerfReport report = new PerfReport(results, settings);
+            report.print();
+            report.writeJson(Path.of(settings.getReportDir(), "results.json"));
+            exitCode = report.violations().isEmpty() ? 0 : 1;
+            report.violations().forEach(violation -> log.error("임계값 초과: {}", violation));
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            db.stop();
+        }
+        System.exit(exitCode);
+    }
+
+    private static String[] applicationArgs(int dbPort) {
+        return new String[]{
+                "--spring.datasource.url=jdbc:mysql://localhost:" + dbPort + "/" + DATABASE
+                        + "?characterEncoding=UTF-8&rewriteBatchedStatements=true",
+                "--spring.datasource.username=root",
+                "--spring.datasource.password=",
+                "--server.port=0",
+                "--JWT_SECRET=perf-test-secret-key-perf-test-secret-key-0123456789",
+                "--JWT_EXPIRATION=3600000",
+                "--SHARE_LINK_KEY=perf-test-share-link-key",
+                // 측정에 방해되는 기능과 로그는 끈다
+                "--rate-limit.enabled=false",
+                "--trash-purge.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+                "--logging.level.com.invitation.backend=warn"
+        };
+    }
+
+    // DB.createDB는 mariadb 클라이언트(libncurses5 필요)를 실행하므로 JDBC로 만든다
+    static void createDatabase(int port, String database) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:mysql://localhost:" + port + "/", "root", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS " + database);
+        }
+    }
+}
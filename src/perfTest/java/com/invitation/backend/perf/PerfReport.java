@@ -0,0 +1,86 @@
+package com.invitation.backend.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 부하 테스트 결과 출력과 임계값 확인
+public class PerfReport {
+
+    private final List<EndpointResult> results;
+    private final PerfSettings settings;
+
+    public PerfReport(List<EndpointResult> results, PerfSettings settings) {
+        this.results = results;
+        this.settings = settings;
+    }
+
+    public void print() {
+        System.out.printf("%n%-42s %9s %10s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "errors");
+        for (EndpointResult result : results) {
+            if (result.getRequests() == 0) {
+                continue;
+            }
+            System.out.printf("%-42s %9d %10.1f %9.2f %9.2f %9.2f %8d%n",
+                    result.getEndpoint().getDescription(),
+                    result.getRequests(),
+                    result.getThroughput(),
+                    result.percentileMillis(50),
+                    result.percentileMillis(99),
+                    result.percentileMillis(99.9),
+                    result.getErrors());
+        }
+        System.out.println();
+    }
+
+    public void writeJson(Path file) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (EndpointResult result : results) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("requests", result.getRequests());
+            entry.put("throughput", result.getThroughput());
+            entry.put("p50Ms", result.percentileMillis(50));
+            entry.put("p99Ms", result.percentileMillis(99));
+            entry.put("p999Ms", result.percentileMillis(99.9));
+            entry.put("maxMs", result.getLatency().getMaxValue() / 1000.0);
+            entry.put("errors", result.getErrors());
+            json.put(result.getEndpoint().getKey(), entry);
+        }
+        Files.createDirectories(file.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), json);
+    }
+
+    // 설정된 임계값을 넘은 항목
+    public List<String> violations() {
+        List<String> violations = new ArrayList<>();
+        for (EndpointResult result : results) {
+            Endpoint endpoint = result.getEndpoint();
+            if (result.getRequests() == 0) {
+                continue;
+            }
+            if (result.getErrorRate() > settings.getMaxErrorRate()) {
+                violations.add(String.format("%s 오류율 %.4f > %.4f",
+                        endpoint.getKey(), result.getErrorRate(), settings.getMaxErrorRate()));
+            }
+            check(violations, result, "p99", 99);
+            check(violations, result, "p999", 99.9);
+        }
+        return violations;
+    }
+
+    private void check(List<String> violations, EndpointResult result, String name, double percentile) {
+        Double limit = settings.threshold(result.getEndpoint(), name);
+        double actual = result.percentileMillis(percentile);
+        if (limit != null && actual > limit) {
+            violations.add(String.format("%s %s %.2fms > %.2fms", result.getEndpoint().getKey(), name, actual, limit));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.invitation.backend.perf;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 부하 테스트 설정 (시스템 속성 perf.*)
+@Getter
+public class PerfSettings {
+
+    private int users;
+    private int eventsPerUser;
+    private int rsvpsPerEvent;
+    private int concurrency;
+    private int warmupSeconds;
+    private int durationSeconds;
+    private double maxErrorRate;
+    private String reportDir;
+    private final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+
+    public static PerfSettings fromSystemProperties() {
+        PerfSettings settings = new PerfSettings();
+        settings.users = Integer.getInteger("perf.users", 50);
+        settings.eventsPerUser = Integer.getInteger("perf.eventsPerUser", 20);
+        settings.rsvpsPerEvent = Integer.getInteger("perf.rsvpsPerEvent", 50);
+        settings.concurrency = Integer.getInteger("perf.concurrency", 64);
+        settings.warmupSeconds = Integer.getInteger("perf.warmupSeconds", 10);
+        settings.durationSeconds = Integer.getInteger("perf.durationSeconds", 30);
+        settings.maxErrorRate = Double.parseDouble(System.getProperty("perf.maxErrorRate", "0.01"));
+        settings.reportDir = System.getProperty("perf.reportDir", "build/reports/perf");
+
+        for (String entry : System.getProperty("perf.mix", "share:70,rsvp:15,list:10,detail:5").split(",")) {
+            String[] pair = entry.trim().split(":");
+            settings.mix.put(Endpoint.fromKey(pair[0]), Integer.parseInt(pair[1]));
+        }
+        return settings;
+    }
+
+    // 엔드포인트별 지연 시간 상한 (ms, 설정이 없으면 null)
+    public Double threshold(Endpoint endpoint, String percentile) {
+        String value = System.getProperty("perf.threshold." + endpoint.getKey() + "." + percentile + "Ms");
+        return value == null ? null : Double.parseDouble(value);
+    }
+}
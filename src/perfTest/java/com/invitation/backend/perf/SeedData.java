@@ -0,0 +1,22 @@
+package com.invitation.backend.perf;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 적재된 데이터 (부하 요청 생성용)
+@Getter
+@AllArgsConstructor
+public class SeedData {
+
+    private final List<Owner> owners;
+    private final List<String> shareLinks;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Owner {
+        private final String token;
+        private final List<Long> eventIds;
+    }
+}
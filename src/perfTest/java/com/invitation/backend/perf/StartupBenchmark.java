@@ -0,0 +1,247 @@
+package com.invitation.backend.perf;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 기동 시간 벤치마크: 프로세스 시작부터 공유 링크 조회가 처음 응답할 때까지 (time-to-first-request)
+// 공유 링크 조회는 보안 필터, 컨트롤러, 리포지토리, DB까지 모두 거치므로 실제로 요청을 받을 수 있는 시점이다.
+//
+// 설정 (-Pstartup.xxx=값)
+//   runs          모드별 측정 횟수 (기본 5)
+//   warmupRuns    모드별 버리는 횟수 (기본 1, 첫 실행은 마이그레이션과 OS 캐시 적재 포함)
+//   timeoutSeconds  한 번의 기동 제한 시간 (기본 120)
+//   maxMs.<mode>  중앙값 상한 (plain, aot, aot-cds)
+@Slf4j
+public class StartupBenchmark {
+
+    private static final String DATABASE = "invitation_startup";
+    private static final String PROBE_PATH = "/api/events/share/zzzzzzzz";  // 없는 링크 (DB 조회 후 400)
+
+    private final String java = ProcessHandle.current().info().command().orElse("java");
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    private final int runs = Integer.getInteger("startup.runs", 5);
+    private final int warmupRuns = Integer.getInteger("startup.warmupRuns", 1);
+    private final long timeoutNanos = TimeUnit.SECONDS.toNanos(Integer.getInteger("startup.timeoutSeconds", 120));
+    private final Path reportDir = Path.of(System.getProperty("startup.reportDir", "build/reports/startup"));
+
+    public static void main(String[] args) throws Exception {
+        System.exit(new StartupBenchmark().run());
+    }
+
+    private int run() throws Exception {
+        DBConfigurationBuilder dbConfig = DBConfigurationBuilder.newBuilder();
+        dbConfig.setPort(0);
+        dbConfig.addArg("--character-set-server=utf8mb4");
+        dbConfig.addArg("--collation-server=utf8mb4_unicode_ci");
+        if ("root".equals(System.getProperty("user.name"))) {
+            dbConfig.addArg("--user=root");  // 컨테이너에서는 root로 실행된다
+        }
+        DBConfiguration config = dbConfig.build();
+        DB db = DB.newEmbeddedDB(config);
+        db.start();
+        LoadTest.createDatabase(config.getPort(), DATABASE);
+
+        Map<String, long[]> results = new LinkedHashMap<>();
+        try {
+            for (Mode mode : modes()) {
+                results.put(mode.name, measure(mode, config.getPort()));
+            }
+        } finally {
+            db.stop();
+        }
+
+        print(results);
+        writeJson(results);
+
+        List<String> violations = violations(results);
+        violations.forEach(violation -> log.error("임계값 초과: {}", violation));
+        return violations.isEmpty() ? 0 : 1;
+    }
+
+    // 측정 모드 (-PfastStartup 빌드일 때만 AOT/CDS 포함)
+    private List<Mode> modes() {
+        String jar = System.getProperty("startup.jar");
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("plain", jar, List.of()));
+
+        if (Boolean.getBoolean("startup.aot")) {
+            List<String> aot = List.of("-Dspring.aot.enabled=true");
+            modes.add(new Mode("aot", jar, aot, "--spring.profiles.active=fast-startup"));
+
+            String cdsJar = System.getProperty("startup.cdsJar");
+            String cdsArchive = System.getProperty("startup.cdsArchive");
+            if (cdsJar != null && cdsArchive != null && Files.exists(Path.of(cdsArchive))) {
+                List<String> cds = new ArrayList<>(aot);
+                cds.add("-XX:SharedArchiveFile=" + cdsArchive);
+                modes.add(new Mode("aot-cds", cdsJar, cds, "--spring.profiles.active=fast-startup"));
+            }
+        }
+        return modes;
+    }
+
+    private long[] measure(Mode mode, int dbPort) throws Exception {
+        long[] millis = new long[runs];
+        for (int i = -warmupRuns; i < runs; i++) {
+            long elapsed = startOnce(mode, dbPort, i);
+            if (i >= 0) {
+                millis[i] = elapsed;
+            }
+            log.warn("{} #{}: {}ms{}", mode.name, i, elapsed, i < 0 ? " (워밍업)" : "");
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    // 한 번 기동해 첫 응답까지의 시간(ms)을 재고 종료
+    private long startOnce(Mode mode, int dbPort, int index) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(mode.jvmArgs);
+        command.add("-jar");
+        command.add(mode.jar);
+        command.addAll(applicationArgs(dbPort, port, freePort()));
+        command.addAll(mode.appArgs);
+
+        Files.createDirectories(reportDir);
+        Path logFile = reportDir.resolve(mode.name + "-" + index + ".log");
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+
+        URI probe = URI.create("http://localhost:" + port + PROBE_PATH);
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            while (System.nanoTime() - start < timeoutNanos) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name + " 기동 실패, 로그: " + logFile);
+                }
+                if (served(probe)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(mode.name + " 기동 시간 초과, 로그: " + logFile);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    // 5xx가 아닌 응답이면 요청을 처리할 수 있는 상태
+    private boolean served(URI probe) throws InterruptedException {
+        try {
+            HttpResponse<Void> response = client.send(
+                    HttpRequest.newBuilder(probe).timeout(Duration.ofSeconds(5)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 500;
+        } catch (IOException e) {
+            return false;  // 아직 포트가 열리지 않음
+        }
+    }
+
+    private static List<String> applicationArgs(int dbPort, int serverPort, int managementPort) {
+        return List.of(
+                "--spring.datasource.url=jdbc:mysql://localhost:" + dbPort + "/" + DATABASE
+                        + "?characterEncoding=UTF-8&rewriteBatchedStatements=true",
+                "--spring.datasource.username=root",
+                "--spring.datasource.password=",
+                "--server.port=" + serverPort,
+                "--management.server.port=" + managementPort,
+                "--JWT_SECRET=perf-test-secret-key-perf-test-secret-key-0123456789",
+                "--JWT_EXPIRATION=3600000",
+                "--SHARE_LINK_KEY=perf-test-share-link-key",
+                "--rate-limit.enabled=false",
+                "--trash-purge.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+        );
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void print(Map<String, long[]> results) {
+        System.out.printf("%n%-10s %8s %8s %8s %8s%n", "mode", "runs", "min(ms)", "p50(ms)", "max(ms)");
+        results.forEach((mode, millis) -> System.out.printf("%-10s %8d %8d %8d %8d%n",
+                mode, millis.length, millis[0], median(millis), millis[millis.length - 1]));
+        System.out.println();
+    }
+
+    private void writeJson(Map<String, long[]> results) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        results.forEach((mode, millis) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("runs", millis.length);
+            entry.put("minMs", millis[0]);
+            entry.put("p50Ms", median(millis));
+            entry.put("maxMs", millis[millis.length - 1]);
+            entry.put("samplesMs", millis);
+            json.put(mode, entry);
+        });
+        Files.createDirectories(reportDir);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("results.json").toFile(), json);
+    }
+
+    private List<String> violations(Map<String, long[]> results) {
+        List<String> violations = new ArrayList<>();
+        results.forEach((mode, millis) -> {
+            Long limit = Long.getLong("startup.maxMs." + mode);
+            if (limit != null && median(millis) > limit) {
+                violations.add(String.format("%s 기동 시간 %dms > %dms", mode, median(millis), limit));
+            }
+        });
+        return violations;
+    }
+
+    private static long median(long[] sorted) {
+        return sorted[sorted.length / 2];
+    }
+
+    // 실행 모드 (JVM 옵션, jar, 앱 인자)
+    private static class Mode {
+        private final String name;
+        private final String jar;
+        private final List<String> jvmArgs;
+        private final List<String> appArgs;
+
+        private Mode(String name, String jar, List<String> jvmArgs, String... appArgs) {
+            this.name = name;
+            this.jar = jar;
+            this.jvmArgs = jvmArgs;
+            this.appArgs = List.of(appArgs);
+        }
+    }
+}
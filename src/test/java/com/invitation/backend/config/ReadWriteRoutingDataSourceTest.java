@@ -0,0 +1,120 @@
+package com.invitation.backend.config;
+
+import com.invitation.backend.support.EmbeddedMariaDB;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 MariaDB 두 개(주 DB, 복제본)로 읽기/쓰기 분리 확인 (어느 DB가 처리했는지는 @@port로 구분)
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션과 트랜잭션 밖 접근은 주 DB")
+    void routesByTransactionReadOnlyFlag() {
+        setUp(Map.of("replica-0", database(EmbeddedMariaDB.replicaJdbcUrl())));
+
+        assertThat(servedPort(true)).isEqualTo(EmbeddedMariaDB.replicaPort());
+        assertThat(servedPort(false)).isEqualTo(EmbeddedMariaDB.port());
+        assertThat(jdbcTemplate.queryForObject("SELECT @@port", Integer.class)).isEqualTo(EmbeddedMariaDB.port());
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 쓰기 이후의 읽기는 주 DB (다른 요청은 복제본)")
+    void readYourWritesWithinRequest() {
+        setUp(Map.of("replica-0", database(EmbeddedMariaDB.replicaJdbcUrl())));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(servedPort(true)).isEqualTo(EmbeddedMariaDB.replicaPort());
+        servedPort(false);
+        assertThat(servedPort(true)).isEqualTo(EmbeddedMariaDB.port());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(servedPort(true)).isEqualTo(EmbeddedMariaDB.replicaPort());
+    }
+
+    @Test
+    @DisplayName("상태 확인에서 제외된 복제본은 건너뛴다")
+    void skipsUnhealthyReplica() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", unreachable());
+        replicas.put("replica-1", database(EmbeddedMariaDB.replicaJdbcUrl()));
+        setUp(replicas);
+
+        routingDataSource.checkReplicas();
+
+        assertThat(routingDataSource.replicaHealth())
+                .containsEntry("replica-0", false)
+                .containsEntry("replica-1", true);
+        for (int i = 0; i < 4; i++) {
+            assertThat(servedPort(true)).isEqualTo(EmbeddedMariaDB.replicaPort());
+        }
+    }
+
+    @Test
+    @DisplayName("복제본 연결에 실패하면 주 DB로 넘기고 해당 복제본을 제외")
+    void failsOverToPrimary() {
+        setUp(Map.of("replica-0", unreachable()));
+
+        assertThat(servedPort(true)).isEqualTo(EmbeddedMariaDB.port());
+        assertThat(routingDataSource.replicaHealth()).containsEntry("replica-0", false);
+        assertThat(servedPort(true)).isEqualTo(EmbeddedMariaDB.port());
+    }
+
+    private void setUp(Map<String, DataSource> replicas) {
+        routingDataSource = new ReadWriteRoutingDataSource(database(EmbeddedMariaDB.jdbcUrl()), replicas,
+                ReadWriteRoutingDataSource.Selection.ROUND_ROBIN, 1, new SimpleMeterRegistry());
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    // 트랜잭션 안에서 쿼리를 처리한 DB의 포트
+    private int servedPort(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT @@port", Integer.class));
+    }
+
+    private static DataSource database(String url) {
+        return new DriverManagerDataSource(url, "root", "");
+    }
+
+    // 아무것도 듣지 않는 포트의 복제본
+    private static DataSource unreachable() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:mysql://localhost:1/" + EmbeddedMariaDB.DATABASE);
+        dataSource.setUsername("root");
+        dataSource.setPassword("");
+        dataSource.setConnectionTimeout(250);
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
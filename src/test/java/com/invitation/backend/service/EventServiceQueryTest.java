@@ -0,0 +1,168 @@
+package com.invitation.backend.service;
+
+import com.invitation.backend.dto.CursorPageResponse;
+import com.invitation.backend.dto.EventListSort;
+import com.invitation.backend.dto.EventResponse;
+import com.invitation.backend.dto.EventUpdateRequest;
+import com.invitation.backend.support.QueryBudget;
+import com.invitation.backend.support.QueryCountTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventServiceQueryTest extends QueryCountTest {
+
+    private String username;
+
+    @BeforeEach
+    void setUp() {
+        username = createUser().getUsername();
+    }
+
+    @Test
+    @DisplayName("생성: 사용자 조회 1, 초대장과 집계 INSERT 2")
+    void createEvent() throws Throwable {
+        expectQueries(QueryBudget.of().select(1).insert(2),
+                () -> eventService.createEvent(username, eventRequest("새 초대장")));
+    }
+
+    @Test
+    @DisplayName("목록: 건수 조회 없이 SELECT 1")
+    void getMyEvents() throws Throwable {
+        for (int i = 0; i < 3; i++) {
+            createEvent(username);
+        }
+        expectQueries(QueryBudget.of().select(1),
+                () -> eventService.getMyEvents(username, null, 2, EventListSort.CREATED_AT));
+    }
+
+    @Test
+    @DisplayName("목록 다음 페이지: 커서 조건 쿼리 SELECT 1, 앞 페이지와 겹치지 않음")
+    void getMyEventsAfterCursor() throws Throwable {
+        for (int i = 0; i < 5; i++) {
+            createEvent(username);
+        }
+        for (EventListSort sort : EventListSort.values()) {
+            CursorPageResponse<EventResponse> first = eventService.getMyEvents(username, null, 3, sort);
+
+            CursorPageResponse<EventResponse> second = expectQueries(QueryBudget.of().select(1),
+                    () -> eventService.getMyEvents(username, first.getNextCursor(), 3, sort));
+
+            Set<Long> ids = new HashSet<>();
+            first.getItems().forEach(event -> ids.add(event.getId()));
+            second.getItems().forEach(event -> ids.add(event.getId()));
+            assertThat(ids).hasSize(5);
+            assertThat(second.getNextCursor()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("휴지통 목록: SELECT 1")
+    void getTrashedEvents() throws Throwable {
+        EventResponse event = createEvent(username);
+        eventService.deleteEvent(username, event.getId());
+
+        expectQueries(QueryBudget.of().select(1),
+                () -> eventService.getTrashedEvents(username, null, null, EventListSort.EVENT_DATE));
+    }
+
+    @Test
+    @DisplayName("상세: 작성자 확인 포함 SELECT 1 (사용자 지연 로딩 없음)")
+    void getEvent() throws Throwable {
+        EventResponse event = createEvent(username);
+
+        expectQueries(QueryBudget.of().select(1), () -> eventService.getEvent(username, event.getId()));
+    }
+
+    @Test
+    @DisplayName("공유 링크 조회: 캐시 미스 SELECT 1, 적중 시 0, 조회수 UPDATE 없음")
+    void getEventByShareLink() throws Throwable {
+        EventResponse event = createEvent(username);
+
+        expectQueries(QueryBudget.of().select(1), () -> eventService.getEventByShareLink(event.getShareLink()));
+        expectQueries(QueryBudget.of(), () -> eventService.getEventByShareLink(event.getShareLink()));
+    }
+
+    @Test
+    @DisplayName("공유 링크 ID 조회: 캐시 미스 SELECT 1, 적중 시 0")
+    void getEventIdByShareLink() throws Throwable {
+        EventResponse event = createEvent(username);
+
+        expectQueries(QueryBudget.of().select(1), () -> eventService.getEventIdByShareLink(event.getShareLink()));
+        expectQueries(QueryBudget.of(), () -> eventService.getEventIdByShareLink(event.getShareLink()));
+    }
+
+    @Test
+    @DisplayName("수정: SELECT 1, UPDATE 1")
+    void updateEvent() throws Throwable {
+        EventResponse event = createEvent(username);
+        EventUpdateRequest request = new EventUpdateRequest();
+        request.setTitle("수정된 초대장");
+        request.setEventDate(LocalDate.now().plusMonths(2));
+        request.setEventTime(LocalTime.of(18, 0));
+
+        expectQueries(QueryBudget.of().select(1).update(1),
+                () -> eventService.updateEvent(username, event.getId(), request));
+    }
+
+    @Test
+    @DisplayName("삭제: SELECT 1, UPDATE 1")
+    void deleteEvent() throws Throwable {
+        EventResponse event = createEvent(username);
+
+        expectQueries(QueryBudget.of().select(1).update(1), () -> eventService.deleteEvent(username, event.getId()));
+    }
+
+    @Test
+    @DisplayName("복원: SELECT 1, UPDATE 1")
+    void restoreEvent() throws Throwable {
+        EventResponse event = createEvent(username);
+        eventService.deleteEvent(username, event.getId());
+
+        expectQueries(QueryBudget.of().select(1).update(1), () -> eventService.restoreEvent(username, event.getId()));
+    }
+
+    @Test
+    @DisplayName("영구 삭제: SELECT 1, RSVP/집계/초대장 DELETE 3")
+    void permanentDeleteEvent() throws Throwable {
+        EventResponse event = createEvent(username);
+        eventService.deleteEvent(username, event.getId());
+
+        expectQueries(QueryBudget.of().select(1).delete(3),
+                () -> eventService.permanentDeleteEvent(username, event.getId()));
+    }
+
+    @Test
+    @DisplayName("일괄 삭제: 건수와 무관하게 SELECT 1, UPDATE 1")
+    void bulkDeleteEvents() throws Throwable {
+        List<Long> ids = List.of(createEvent(username).getId(), createEvent(username).getId(), createEvent(username).getId());
+
+        expectQueries(QueryBudget.of().select(1).update(1), () -> eventService.bulkDeleteEvents(username, ids));
+    }
+
+    @Test
+    @DisplayName("일괄 복원: SELECT 1, UPDATE 1")
+    void bulkRestoreEvents() throws Throwable {
+        List<Long> ids = List.of(createEvent(username).getId(), createEvent(username).getId());
+        eventService.bulkDeleteEvents(username, ids);
+
+        expectQueries(QueryBudget.of().select(1).update(1), () -> eventService.bulkRestoreEvents(username, ids));
+    }
+
+    @Test
+    @DisplayName("일괄 영구 삭제: SELECT 1, DELETE 3")
+    void bulkPermanentDeleteEvents() throws Throwable {
+        List<Long> ids = List.of(createEvent(username).getId(), createEvent(username).getId());
+        eventService.bulkDeleteEvents(username, ids);
+
+        expectQueries(QueryBudget.of().select(1).delete(3), () -> eventService.bulkPermanentDeleteEvents(username, ids));
+    }
+}
@@ -0,0 +1,176 @@
+package com.invitation.backend.service;
+
+import com.invitation.backend.domain.AttendanceType;
+import com.invitation.backend.dto.EventResponse;
+import com.invitation.backend.dto.RSVPCreateRequest;
+import com.invitation.backend.dto.RSVPSummaryResponse;
+import com.invitation.backend.repository.EventRSVPSummaryRepository;
+import com.invitation.backend.support.QueryBudget;
+import com.invitation.backend.support.QueryCountTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RSVPServiceQueryTest extends QueryCountTest {
+
+    @Autowired
+    private RSVPService rsvpService;
+
+    @Autowired
+    private EventRSVPSummaryRepository summaryRepository;
+
+    private String username;
+    private EventResponse event;
+
+    @BeforeEach
+    void setUp() {
+        username = createUser().getUsername();
+        event = createEvent(username);
+        // 공유 링크 캐시 적재는 공유 링크 조회 테스트에서 따로 확인
+        eventService.getEventIdByShareLink(event.getShareLink());
+    }
+
+    @Test
+    @DisplayName("등록: 이벤트 조회 없이 INSERT 1, 집계 UPDATE 1")
+    void createRSVP() throws Throwable {
+        expectQueries(QueryBudget.of().insert(1).update(1),
+                () -> rsvpService.createRSVP(event.getShareLink(), rsvpRequest("하객"), httpRequest("203.0.113.1")));
+    }
+
+    @Test
+    @DisplayName("등록 (집계 행 없음): 집계 UPDATE 0건이면 재계산 SELECT 1, INSERT ... ON DUPLICATE KEY UPDATE 1")
+    void createRSVPWithoutSummaryRow() throws Throwable {
+        createRSVP("기존 하객");
+        summaryRepository.deleteById(event.getId());
+
+        expectQueries(QueryBudget.of().select(1).insert(2).update(1),
+                () -> rsvpService.createRSVP(event.getShareLink(), rsvpRequest("하객"), httpRequest("203.0.113.3")));
+
+        RSVPSummaryResponse summary = rsvpService.getRSVPSummary(username, event.getId());
+        assertThat(summary.getAttendingCount()).isEqualTo(2L);
+        assertThat(summary.getCompanionCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("중복 등록: 필터 적중 시에만 SELECT 1 후 거절")
+    void createDuplicateRSVP() throws Throwable {
+        rsvpService.createRSVP(event.getShareLink(), rsvpRequest("하객"), httpRequest("203.0.113.2"));
+
+        expectQueries(QueryBudget.of().select(1), () -> assertThrows(IllegalArgumentException.class,
+                () -> rsvpService.createRSVP(event.getShareLink(), rsvpRequest("하객"), httpRequest("203.0.113.2"))));
+    }
+
+    @Test
+    @DisplayName("목록: 작성자 확인 1, 페이지 1 (응답 수와 무관)")
+    void getRSVPList() throws Throwable {
+        for (int i = 0; i < 5; i++) {
+            createRSVP("하객" + i);
+        }
+
+        expectQueries(QueryBudget.of().select(2), () -> rsvpService.getRSVPList(username, event.getId(), null, 3));
+    }
+
+    @Test
+    @DisplayName("내보내기: 작성자 확인 1, 스트리밍 조회 1")
+    void exportRSVPs() throws Throwable {
+        for (int i = 0; i < 3; i++) {
+            createRSVP("하객" + i);
+        }
+
+        expectQueries(QueryBudget.of().select(2), () -> {
+            StreamingResponseBody body = rsvpService.exportRSVPs(username, event.getId(), RSVPExportService.ExportFormat.CSV);
+            body.writeTo(new ByteArrayOutputStream());
+        });
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기: 작성자 확인 1, 스트리밍 조회 1, 한 줄에 객체 하나 (앞뒤 공백 없음)")
+    void exportRSVPsAsNdjson() throws Throwable {
+        createRSVP("하객1");
+        createRSVP("하객2");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        expectQueries(QueryBudget.of().select(2), () -> rsvpService
+                .exportRSVPs(username, event.getId(), RSVPExportService.ExportFormat.NDJSON)
+                .writeTo(out));
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("}\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(lines[i]).matches("\\{\"id\":\\d+,\"guestName\":\"하객" + (i + 1) + "\",\"attendance\":\"ATTENDING\","
+                    + "\"companionCount\":1,\"phone\":null,\"email\":null,\"message\":null,\"createdAt\":\"[^\"]+\"}");
+        }
+    }
+
+    @Test
+    @DisplayName("집계: 작성자 확인 1, 집계 행 1 (rsvps 집계 없음)")
+    void getRSVPSummary() throws Throwable {
+        createRSVP("하객");
+
+        expectQueries(QueryBudget.of().select(2), () -> rsvpService.getRSVPSummary(username, event.getId()));
+    }
+
+    @Test
+    @DisplayName("집계 (집계 행 없음): 작성자 확인 1, 집계 행 1, 재계산 1 후 INSERT 1 (이후 조회는 집계 행만)")
+    void getRSVPSummaryWithoutSummaryRow() throws Throwable {
+        createRSVP("하객1");
+        createRSVP("하객2");
+        summaryRepository.deleteById(event.getId());
+
+        RSVPSummaryResponse summary = expectQueries(QueryBudget.of().select(3).insert(1),
+                () -> rsvpService.getRSVPSummary(username, event.getId()));
+        assertThat(summary.getAttendingCount()).isEqualTo(2L);
+        assertThat(summary.getCompanionCount()).isEqualTo(2L);
+
+        assertThat(summaryRepository.findById(event.getId())).isPresent();
+        expectQueries(QueryBudget.of().select(2), () -> rsvpService.getRSVPSummary(username, event.getId()));
+    }
+
+    @Test
+    @DisplayName("수정: SELECT 1, 집계와 응답 UPDATE 2 (이벤트 로딩 없음)")
+    void updateRSVP() throws Throwable {
+        Long rsvpId = createRSVP("하객");
+        RSVPCreateRequest request = rsvpRequest("하객");
+        request.setAttendance(AttendanceType.NOT_ATTENDING);
+        request.setCompanionCount(0);
+
+        expectQueries(QueryBudget.of().select(1).update(2), () -> rsvpService.updateRSVP(rsvpId, request));
+    }
+
+    @Test
+    @DisplayName("삭제: SELECT 1, DELETE 1, 집계 UPDATE 1")
+    void deleteRSVP() throws Throwable {
+        Long rsvpId = createRSVP("하객");
+
+        expectQueries(QueryBudget.of().select(1).update(1).delete(1), () -> rsvpService.deleteRSVP(rsvpId));
+    }
+
+    private Long createRSVP(String guestName) {
+        return rsvpService.createRSVP(event.getShareLink(), rsvpRequest(guestName), httpRequest("198.51.100.1")).getId();
+    }
+
+    private RSVPCreateRequest rsvpRequest(String guestName) {
+        RSVPCreateRequest request = new RSVPCreateRequest();
+        request.setGuestName(guestName);
+        request.setAttendance(AttendanceType.ATTENDING);
+        request.setCompanionCount(1);
+        return request;
+    }
+
+    private MockHttpServletRequest httpRequest(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,41 @@
+package com.invitation.backend.service;
+
+import com.invitation.backend.domain.User;
+import com.invitation.backend.dto.LoginRequest;
+import com.invitation.backend.dto.SignupRequest;
+import com.invitation.backend.support.QueryBudget;
+import com.invitation.backend.support.QueryCountTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+
+class UserServiceQueryTest extends QueryCountTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("회원가입: 중복 확인 SELECT 1, INSERT 1")
+    void signup() throws Throwable {
+        SignupRequest request = new SignupRequest();
+        request.setUsername("signup" + System.nanoTime() % 1_000_000);
+        request.setPassword(PASSWORD);
+        request.setName("가입자");
+        request.setBirthDate(LocalDate.of(1995, 5, 5));
+
+        expectQueries(QueryBudget.of().select(1).insert(1), () -> userService.signup(request));
+    }
+
+    @Test
+    @DisplayName("로그인: SELECT 1")
+    void login() throws Throwable {
+        User user = createUser();
+        LoginRequest request = new LoginRequest();
+        request.setUsername(user.getUsername());
+        request.setPassword(PASSWORD);
+
+        expectQueries(QueryBudget.of().select(1), () -> userService.login(request));
+    }
+}
@@ -0,0 +1,82 @@
+package com.invitation.backend.support;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import ch.vorburger.exec.ManagedProcessException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 테스트용 내장 MariaDB (인스턴스별로 JVM당 한 번 기동, 종료 훅으로 정리)
+// 주 DB 외에 읽기/쓰기 분리 테스트용 복제본 역할 인스턴스를 하나 더 띄울 수 있다
+public final class EmbeddedMariaDB {
+
+    public static final String DATABASE = "invitation_test";
+
+    private static final EmbeddedMariaDB PRIMARY = new EmbeddedMariaDB();
+    private static final EmbeddedMariaDB REPLICA = new EmbeddedMariaDB();
+
+    private DBConfiguration configuration;
+
+    private EmbeddedMariaDB() {
+    }
+
+    public static String jdbcUrl() {
+        return PRIMARY.url();
+    }
+
+    public static int port() {
+        return PRIMARY.startedConfiguration().getPort();
+    }
+
+    public static String replicaJdbcUrl() {
+        return REPLICA.url();
+    }
+
+    public static int replicaPort() {
+        return REPLICA.startedConfiguration().getPort();
+    }
+
+    private String url() {
+        return "jdbc:mysql://localhost:" + startedConfiguration().getPort() + "/" + DATABASE
+                + "?characterEncoding=UTF-8&rewriteBatchedStatements=true";
+    }
+
+    private synchronized DBConfiguration startedConfiguration() {
+        if (configuration == null) {
+            start();
+        }
+        return configuration;
+    }
+
+    private void start() {
+        try {
+            DBConfigurationBuilder builder = DBConfigurationBuilder.newBuilder();
+            builder.setPort(0);  // 빈 포트 자동 선택
+            builder.addArg("--character-set-server=utf8mb4");
+            builder.addArg("--collation-server=utf8mb4_unicode_ci");
+            if ("root".equals(System.getProperty("user.name"))) {
+                builder.addArg("--user=root");  // 컨테이너 CI에서는 root로 실행된다
+            }
+            DBConfiguration started = builder.build();
+
+            DB db = DB.newEmbeddedDB(started);
+            db.start();
+            createDatabase(started.getPort());
+            configuration = started;
+        } catch (ManagedProcessException | SQLException e) {
+            throw new IllegalStateException("내장 MariaDB 기동 실패", e);
+        }
+    }
+
+    // DB.createDB는 mariadb 클라이언트(libncurses5 필요)를 실행하므로 JDBC로 만든다
+    private static void createDatabase(int port) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:mysql://localhost:" + port + "/", "root", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS " + DATABASE);
+        }
+    }
+}
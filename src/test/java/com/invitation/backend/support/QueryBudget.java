@@ -0,0 +1,56 @@
+package com.invitation.backend.support;
+
+import org.opentest4j.AssertionFailedError;
+
+// 작업 단위의 정확한 SQL 예산 (지정하지 않은 종류는 0)
+public class QueryBudget {
+
+    private int select;
+    private int insert;
+    private int update;
+    private int delete;
+
+    private QueryBudget() {
+    }
+
+    public static QueryBudget of() {
+        return new QueryBudget();
+    }
+
+    public QueryBudget select(int count) {
+        this.select = count;
+        return this;
+    }
+
+    public QueryBudget insert(int count) {
+        this.insert = count;
+        return this;
+    }
+
+    public QueryBudget update(int count) {
+        this.update = count;
+        return this;
+    }
+
+    public QueryBudget delete(int count) {
+        this.delete = count;
+        return this;
+    }
+
+    void verify(QueryCount actual) {
+        if (actual.getSelect() != select || actual.getInsert() != insert
+                || actual.getUpdate() != update || actual.getDelete() != delete || actual.getOther() != 0) {
+            StringBuilder message = new StringBuilder()
+                    .append("SQL 예산 불일치\n  예상: ").append(this)
+                    .append("\n  실제: ").append(actual)
+                    .append("\n  실행된 SQL:");
+            actual.getStatements().forEach(sql -> message.append("\n    ").append(sql));
+            throw new AssertionFailedError(message.toString(), toString(), actual.toString());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "select=" + select + ", insert=" + insert + ", update=" + update + ", delete=" + delete;
+    }
+}
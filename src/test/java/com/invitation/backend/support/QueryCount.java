@@ -0,0 +1,45 @@
+package com.invitation.backend.support;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 작업 단위의 SQL 실행 수 (종류별)
+@Getter
+public class QueryCount {
+
+    private int select;
+    private int insert;
+    private int update;
+    private int delete;
+    private int other;
+    private final List<String> statements = new ArrayList<>();
+
+    void record(String sql) {
+        statements.add(sql);
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (head.startsWith("select") || head.startsWith("with")) {
+            select++;
+        } else if (head.startsWith("insert")) {
+            insert++;
+        } else if (head.startsWith("update")) {
+            update++;
+        } else if (head.startsWith("delete")) {
+            delete++;
+        } else {
+            other++;
+        }
+    }
+
+    public int total() {
+        return select + insert + update + delete + other;
+    }
+
+    @Override
+    public String toString() {
+        return "select=" + select + ", insert=" + insert + ", update=" + update + ", delete=" + delete
+                + (other > 0 ? ", other=" + other : "");
+    }
+}
@@ -0,0 +1,28 @@
+package com.invitation.backend.support;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+// 테스트마다 SQL 집계를 초기화하고, 전체 실행이 끝나면 느린 쿼리 보고서를 남긴다
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        // 루트 저장소에 등록한 자원은 전체 테스트 종료 시 한 번 close된다
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(SlowQueryReport.class, key -> new SlowQueryReport(), SlowQueryReport.class);
+
+        SlowQueryReport.startTest(testName(context));
+        QueryCounter.resetTest();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SlowQueryReport.finishTest(testName(context), QueryCounter.testTotal());
+    }
+
+    private String testName(ExtensionContext context) {
+        return context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName();
+    }
+}
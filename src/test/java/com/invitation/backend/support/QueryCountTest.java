@@ -0,0 +1,104 @@
+package com.invitation.backend.support;
+
+import com.invitation.backend.domain.AuthProvider;
+import com.invitation.backend.domain.User;
+import com.invitation.backend.dto.EventCreateRequest;
+import com.invitation.backend.dto.EventResponse;
+import com.invitation.backend.repository.UserRepository;
+import com.invitation.backend.service.EventService;
+import com.invitation.backend.service.ShareLinkGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 서비스 메서드별 SQL 예산 테스트 기반 클래스 (내장 MariaDB + 집계 프록시)
+@SpringBootTest
+@Import(QueryCountingDataSourceConfig.class)
+@ExtendWith(QueryCountExtension.class)
+public abstract class QueryCountTest {
+
+    protected static final String PASSWORD = "password1234";
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected EventService eventService;
+
+    @Autowired
+    protected PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ShareLinkGenerator shareLinkGenerator;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", EmbeddedMariaDB::jdbcUrl);
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("server.port", () -> "0");
+        registry.add("JWT_SECRET", () -> "test-secret-key-test-secret-key-test-secret-key-0123");
+        registry.add("JWT_EXPIRATION", () -> "3600000");
+        registry.add("SHARE_LINK_KEY", () -> "test-share-link-key");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("rate-limit.enabled", () -> "false");
+        registry.add("trash-purge.enabled", () -> "false");
+    }
+
+    @BeforeEach
+    void warmUpShareLinkBlock() {
+        // 공유 링크 블록 할당은 블록당 한 번이라 예산에서 제외 (첫 할당을 미리 해 둔다)
+        shareLinkGenerator.generate();
+    }
+
+    // 작업 실행 후 SQL 수가 예산과 정확히 일치하는지 확인
+    protected <T> T expectQueries(QueryBudget budget, ThrowingSupplier<T> work) throws Throwable {
+        QueryCounter.reset();
+        T result = work.get();
+        budget.verify(QueryCounter.current());
+        return result;
+    }
+
+    protected void expectQueries(QueryBudget budget, Executable work) throws Throwable {
+        QueryCounter.reset();
+        work.execute();
+        budget.verify(QueryCounter.current());
+    }
+
+    // 테스트마다 겹치지 않는 사용자 생성
+    protected User createUser() {
+        return userRepository.save(User.builder()
+                .username("user" + System.nanoTime() % 100_000 + SEQUENCE.incrementAndGet())
+                .password(passwordEncoder.encode(PASSWORD))
+                .name("테스트")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .provider(AuthProvider.GENERAL)
+                .build());
+    }
+
+    protected EventResponse createEvent(String username) {
+        return eventService.createEvent(username, eventRequest("테스트 초대장"));
+    }
+
+    protected EventCreateRequest eventRequest(String title) {
+        EventCreateRequest request = new EventCreateRequest();
+        request.setTitle(title);
+        request.setEventDate(LocalDate.now().plusMonths(1));
+        request.setEventTime(LocalTime.NOON);
+        request.setLocation("서울");
+        return request;
+    }
+}
@@ -0,0 +1,47 @@
+package com.invitation.backend.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+// 스레드별 SQL 실행 수 집계 (datasource-proxy 리스너)
+// 스케줄러 등 다른 스레드의 쿼리는 테스트 스레드 집계에 섞이지 않는다
+public class QueryCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<QueryCount> CURRENT = ThreadLocal.withInitial(QueryCount::new);
+    private static final ThreadLocal<QueryCount> TEST_TOTAL = ThreadLocal.withInitial(QueryCount::new);
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            CURRENT.get().record(queryInfo.getQuery());
+            TEST_TOTAL.get().record(queryInfo.getQuery());
+            SlowQueryReport.recordIfSlow(queryInfo.getQuery(), execInfo.getElapsedTime());
+        }
+    }
+
+    // 작업 단위 집계 시작
+    public static void reset() {
+        CURRENT.set(new QueryCount());
+    }
+
+    public static QueryCount current() {
+        return CURRENT.get();
+    }
+
+    // 테스트 전체 집계 (확장에서 사용)
+    static void resetTest() {
+        TEST_TOTAL.set(new QueryCount());
+        reset();
+    }
+
+    static QueryCount testTotal() {
+        return TEST_TOTAL.get();
+    }
+}
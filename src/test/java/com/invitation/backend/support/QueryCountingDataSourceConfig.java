@@ -0,0 +1,29 @@
+package com.invitation.backend.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+// 애플리케이션 DataSource를 SQL 집계 프록시로 감싼다 (JPA, JdbcTemplate 모두 집계됨)
+@TestConfiguration
+public class QueryCountingDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-counter")
+                            .listener(new QueryCounter())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
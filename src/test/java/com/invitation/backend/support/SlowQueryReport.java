@@ -0,0 +1,71 @@
+package com.invitation.backend.support;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 테스트 실행 단위 느린 쿼리 보고서 (전체 테스트 종료 시 파일로 기록)
+public class SlowQueryReport implements ExtensionContext.Store.CloseableResource {
+
+    private static final long THRESHOLD_MS = Long.getLong("slowQuery.thresholdMs", 50);
+    private static final String REPORT_FILE = System.getProperty("slowQuery.reportFile", "build/reports/slow-queries.txt");
+
+    private static final Queue<SlowQuery> SLOW_QUERIES = new ConcurrentLinkedQueue<>();
+    private static final Map<String, QueryCount> TEST_TOTALS = new ConcurrentHashMap<>();
+    private static volatile String currentTest = "(테스트 외부)";
+
+    static void startTest(String name) {
+        currentTest = name;
+    }
+
+    static void finishTest(String name, QueryCount total) {
+        TEST_TOTALS.put(name, total);
+    }
+
+    static void recordIfSlow(String sql, long elapsedMillis) {
+        if (elapsedMillis >= THRESHOLD_MS) {
+            SLOW_QUERIES.add(new SlowQuery(currentTest, sql, elapsedMillis));
+        }
+    }
+
+    @Override
+    public void close() {
+        List<String> lines = new ArrayList<>();
+        lines.add("# 느린 쿼리 (" + THRESHOLD_MS + "ms 이상)");
+        SLOW_QUERIES.stream()
+                .sorted(Comparator.comparingLong(SlowQuery::elapsedMillis).reversed())
+                .forEach(query -> lines.add(String.format("%6dms  %s%n        %s",
+                        query.elapsedMillis(), query.test(), query.sql())));
+        if (SLOW_QUERIES.isEmpty()) {
+            lines.add("(없음)");
+        }
+
+        lines.add("");
+        lines.add("# 테스트별 SQL 실행 수");
+        TEST_TOTALS.entrySet().stream()
+                .sorted(Map.Entry.<String, QueryCount>comparingByValue(Comparator.comparingInt(QueryCount::total)).reversed())
+                .forEach(entry -> lines.add(String.format("%4d  %s  (%s)",
+                        entry.getValue().total(), entry.getKey(), entry.getValue())));
+
+        try {
+            Path path = Path.of(REPORT_FILE);
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Files.write(path, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record SlowQuery(String test, String sql, long elapsedMillis) {
+    }
+}